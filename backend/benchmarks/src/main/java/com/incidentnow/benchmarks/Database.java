@@ -0,0 +1,70 @@
+package com.incidentnow.benchmarks;
+
+import com.incidentnow.repository.IncidentListItemQueries;
+import com.incidentnow.repository.IncidentRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+
+/**
+ * An in-memory H2 database behind the application's own persistence classes: the entities with the
+ * schema Hibernate generates for them (named as Spring Boot names it), and Spring Data repositories.
+ * The second-level cache is off, so every query reaches the database.
+ * Still no Spring context; benchmarks build the services they measure on top of this by hand.
+ */
+final class Database implements AutoCloseable {
+
+    final HikariDataSource dataSource;
+    final JdbcTemplate jdbcTemplate;
+    final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * @param name       database name, unique per benchmark and parameter set
+     * @param poolSize   connections, at least the number of benchmark threads
+     * @param urlOptions extra H2 URL settings such as {@code ;OPTIMIZE_REUSE_RESULTS=FALSE}
+     */
+    Database(String name, int poolSize, String urlOptions) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1" + urlOptions);
+        config.setUsername("sa");
+        config.setMaximumPoolSize(poolSize);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.incidentnow.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.cache.use_second_level_cache", "false",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+    }
+
+    /** The application's {@link IncidentRepository}; its compact-list fragment is not available. */
+    IncidentRepository incidentRepository() {
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        return factory.getRepository(IncidentRepository.class,
+                RepositoryFragments.just(Fixtures.stub(IncidentListItemQueries.class, Map.of())));
+    }
+
+    @Override
+    public void close() {
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+}
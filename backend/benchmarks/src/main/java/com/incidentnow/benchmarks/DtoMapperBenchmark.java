@@ -0,0 +1,45 @@
+package com.incidentnow.benchmarks;
+
+import com.incidentnow.config.DtoMapper;
+import com.incidentnow.dto.IncidentResponseDTO;
+import com.incidentnow.entity.Incident;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of the incident detail view, for a single incident and for a page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMapperBenchmark {
+
+    @Param({"0", "3"})
+    int assignees;
+
+    private final DtoMapper mapper = new DtoMapper();
+    private Incident incident;
+    private List<Incident> page;
+
+    @Setup
+    public void setUp() {
+        incident = Fixtures.incident(1, assignees);
+        page = Fixtures.incidents(20, assignees);
+    }
+
+    @Benchmark
+    public IncidentResponseDTO toIncidentResponse() {
+        return mapper.toIncidentResponse(incident);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(20)
+    public List<IncidentResponseDTO> toIncidentResponsePage() {
+        return page.stream().map(mapper::toIncidentResponse).toList();
+    }
+}
@@ -0,0 +1,171 @@
+package com.incidentnow.benchmarks;
+
+import com.incidentnow.entity.GitHubRepo;
+import com.incidentnow.entity.Incident;
+import com.incidentnow.entity.Owner;
+import com.incidentnow.entity.SupportEngineer;
+import com.incidentnow.model.*;
+import com.incidentnow.repository.RollupBucketRow;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Synthetic, deterministic data for the benchmarks. Nothing here touches a database or a Spring
+ * context; repositories are replaced with {@link #stub} proxies.
+ */
+final class Fixtures {
+
+    /** Fixed "now" so results do not drift with the date the benchmarks run on. */
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 30, 12, 0);
+
+    private static final IncidentStatus[] STATUSES = IncidentStatus.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Severity[] SEVERITIES = Severity.values();
+    private static final IncidentCategory[] CATEGORIES = IncidentCategory.values();
+
+    private Fixtures() {
+    }
+
+    static Owner owner(int i) {
+        return Owner.builder()
+                .id(uuid(1, i))
+                .name("Owner " + i)
+                .email("owner" + i + "@example.com")
+                .phone("+1-555-01" + (i % 100))
+                .avatarUrl("https://avatars.example.com/owner" + i)
+                .team("Platform")
+                .role(OwnerRole.values()[i % OwnerRole.values().length])
+                .department("Engineering")
+                .timezone("Europe/Madrid")
+                .slackHandle("@owner" + i)
+                .githubUsername("owner" + i)
+                .active(true)
+                .createdAt(NOW.minusYears(1))
+                .updatedAt(NOW.minusDays(i % 30))
+                .build();
+    }
+
+    static SupportEngineer engineer(int i) {
+        return SupportEngineer.builder()
+                .id(uuid(2, i))
+                .name("Engineer " + i)
+                .email("engineer" + i + "@example.com")
+                .avatarUrl("https://avatars.example.com/engineer" + i)
+                .timezone("America/New_York")
+                .slackHandle("@engineer" + i)
+                .githubUsername("engineer" + i)
+                .active(true)
+                .onCall(i % 3 == 0)
+                .workingHoursStart(LocalTime.of(9, 0))
+                .workingHoursEnd(LocalTime.of(17, 0))
+                .categories(new ArrayList<>(List.of(CATEGORIES[i % CATEGORIES.length])))
+                .createdAt(NOW.minusYears(1))
+                .updatedAt(NOW.minusDays(i % 30))
+                .build();
+    }
+
+    /**
+     * A fully populated incident: owner, {@code assignees} engineers, tags, affected systems and a
+     * linked GitHub repository, like the detail view of a busy incident.
+     */
+    static Incident incident(int i, int assignees) {
+        Set<SupportEngineer> engineers = new LinkedHashSet<>();
+        for (int a = 0; a < assignees; a++) {
+            engineers.add(engineer(i + a));
+        }
+        LocalDateTime createdAt = NOW.minusHours(i * 7L % 2000);
+        IncidentStatus status = STATUSES[i % STATUSES.length];
+        boolean resolved = status == IncidentStatus.RESOLVED || status == IncidentStatus.CLOSED;
+        return Incident.builder()
+                .id(uuid(3, i))
+                .incidentNumber("INC-2025-%04d".formatted(i + 1))
+                .title("Checkout latency above SLO in region " + (i % 5))
+                .description("p99 latency of the checkout service exceeded 2s for more than 10 minutes. "
+                        + "Dashboards show increased GC pauses after the latest deployment.")
+                .status(status)
+                .priority(PRIORITIES[i % PRIORITIES.length])
+                .severity(SEVERITIES[i % SEVERITIES.length])
+                .category(CATEGORIES[i % CATEGORIES.length])
+                .tags(new ArrayList<>(List.of("checkout", "latency", "region-" + (i % 5))))
+                .affectedSystems(new ArrayList<>(List.of("checkout-api", "payments-gateway")))
+                .affectedUsers(1000 + i)
+                .owner(owner(i % 10))
+                .assignees(engineers)
+                .rootCause(resolved ? "Connection pool exhaustion after config change" : null)
+                .resolution(resolved ? "Rolled back the pool size change" : null)
+                .workaround("Route traffic to the secondary region")
+                .githubRepo(GitHubRepo.builder()
+                        .repoOwner("incident-now")
+                        .repoName("checkout")
+                        .branch("main")
+                        .issueNumber(100 + i)
+                        .pullRequestNumber(200 + i)
+                        .commitSha("3f2c1e9a8b7d6c5e4f3a2b1c0d9e8f7a6b5c4d3e")
+                        .build())
+                .dueDate(createdAt.plusHours(4))
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusMinutes(45))
+                .acknowledgedAt(createdAt.plusMinutes(5))
+                .resolvedAt(resolved ? createdAt.plusMinutes(90) : null)
+                .closedAt(status == IncidentStatus.CLOSED ? createdAt.plusHours(3) : null)
+                .slaBreached(i % 7 == 0)
+                .timeToAcknowledge(5)
+                .timeToResolve(resolved ? 90 : null)
+                .build();
+    }
+
+    static List<Incident> incidents(int count, int assignees) {
+        List<Incident> incidents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            incidents.add(incident(i, assignees));
+        }
+        return incidents;
+    }
+
+    /**
+     * What {@code IncidentRollupRepository.sumByBucket} returns for a busy instance: one row per
+     * bucket and metric between {@code from} and {@code to}.
+     */
+    static List<RollupBucketRow> rollupBuckets(RollupGranularity granularity, LocalDate from, LocalDate to) {
+        List<RollupBucketRow> rows = new ArrayList<>();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        int i = 0;
+        for (LocalDateTime bucket = from.atStartOfDay(); bucket.isBefore(end); i++) {
+            rows.add(new RollupBucketRow(bucket, RollupMetric.CREATED, 3 + i % 5, 0));
+            rows.add(new RollupBucketRow(bucket, RollupMetric.RESOLVED, 2 + i % 4, 90L * (2 + i % 4)));
+            rows.add(new RollupBucketRow(bucket, RollupMetric.CLOSED, 1 + i % 3, 0));
+            bucket = granularity == RollupGranularity.HOUR ? bucket.plusHours(1) : bucket.plusDays(1);
+        }
+        return rows;
+    }
+
+    /**
+     * Implements {@code type} (typically a Spring Data repository) with the given method bodies, keyed
+     * by method name. Any other call fails, so a benchmark cannot silently measure a no-op.
+     */
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            Function<Object[], Object> body = methods.get(method.getName());
+            if (body != null) {
+                return body.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + " stub";
+                case "hashCode" -> System.identityHashCode(self);
+                case "equals" -> self == args[0];
+                default -> throw new UnsupportedOperationException(
+                        type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            };
+        });
+        return type.cast(proxy);
+    }
+
+    private static UUID uuid(int kind, int i) {
+        return new UUID(0x1000L * kind, i);
+    }
+}
@@ -0,0 +1,103 @@
+package com.incidentnow.benchmarks;
+
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.service.BlockIncidentNumberAllocator;
+import com.incidentnow.service.InMemoryIncidentNumberAllocator;
+import com.incidentnow.service.IncidentNumberAllocator;
+import com.incidentnow.service.SequenceIncidentNumberAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Incident number allocation with one and with eight threads allocating at once, through the
+ * application's allocators over an in-memory H2 database: {@code memory}, {@code sequence} (one
+ * {@code nextval} per number, or one statement for a batch of {@value #BATCH}) and {@code block}
+ * (one {@code nextval} per {@value #BLOCK_SIZE} numbers). Outside a request transaction every
+ * statement borrows a pooled connection, as the first statement of a request would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IncidentNumberBenchmark {
+
+    private static final int BATCH = 100;
+    private static final int BLOCK_SIZE = 50;
+
+    private Database database;
+    private IncidentNumberAllocator memoryAllocator;
+    private IncidentNumberAllocator sequenceAllocator;
+    private IncidentNumberAllocator blockAllocator;
+
+    @Setup
+    public void setUp() {
+        database = new Database("incident-numbers", 8, "");
+        IncidentRepository incidents = database.incidentRepository();
+        PlatformTransactionManager transactionManager = new DataSourceTransactionManager(database.dataSource);
+
+        memoryAllocator = new InMemoryIncidentNumberAllocator(incidents);
+        SequenceIncidentNumberAllocator sequence = new SequenceIncidentNumberAllocator(incidents,
+                database.jdbcTemplate, transactionManager, database.entityManagerFactory);
+        BlockIncidentNumberAllocator block = new BlockIncidentNumberAllocator(incidents, database.jdbcTemplate,
+                transactionManager, database.entityManagerFactory, BLOCK_SIZE);
+        // What ApplicationReadyEvent does in the application
+        sequence.initSequences();
+        block.initSequences();
+        sequenceAllocator = sequence;
+        blockAllocator = block;
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String memory() {
+        return memoryAllocator.allocate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String memoryContended() {
+        return memoryAllocator.allocate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String sequence() {
+        return sequenceAllocator.allocate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String sequenceContended() {
+        return sequenceAllocator.allocate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(BATCH)
+    public List<String> sequenceBatch() {
+        return sequenceAllocator.allocate(BATCH);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String block() {
+        return blockAllocator.allocate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String blockContended() {
+        return blockAllocator.allocate();
+    }
+}
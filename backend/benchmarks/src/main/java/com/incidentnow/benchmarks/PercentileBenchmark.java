@@ -0,0 +1,87 @@
+package com.incidentnow.benchmarks;
+
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.repository.ResolutionTimeRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The resolution-time percentiles behind {@code GET /statistics/resolution-time}. They are computed by
+ * the database, so this runs {@code IncidentRepository.resolutionTimeStats} against an in-memory H2
+ * database holding synthetic resolution times.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PercentileBenchmark {
+
+    private static final String INSERT_OWNER = """
+            INSERT INTO owners (id, name, email, password, team, role, active, created_at, updated_at)
+            VALUES (?, 'Owner', 'owner@example.com', 'x', 'Platform', 'ENGINEER', TRUE, ?, ?)
+            """;
+
+    private static final String INSERT_INCIDENT = """
+            INSERT INTO incidents (id, incident_number, title, status, priority, severity, category, owner_id,
+                created_at, updated_at, sla_breached, resolved_at, time_to_resolve)
+            VALUES (?, ?, 'Incident', ?, 'MEDIUM', 'MEDIUM', 'NETWORK', ?, ?, ?, FALSE, ?, ?)
+            """;
+
+    @Param({"1000", "100000"})
+    int incidents;
+
+    private Database database;
+    private IncidentRepository repository;
+
+    @Setup
+    public void setUp() {
+        // Without OPTIMIZE_REUSE_RESULTS=FALSE H2 would answer repeated runs from its result cache
+        database = new Database("percentiles-" + incidents, 1, ";OPTIMIZE_REUSE_RESULTS=FALSE");
+        repository = database.incidentRepository();
+
+        UUID ownerId = new UUID(0x1000L, 0);
+        Timestamp created = Timestamp.valueOf(Fixtures.NOW.minusYears(1));
+        database.jdbcTemplate.update(INSERT_OWNER, ownerId, created, created);
+
+        List<Object[]> rows = new ArrayList<>(1000);
+        for (int i = 0; i < incidents; i++) {
+            boolean resolved = i % 5 != 0;
+            rows.add(new Object[] {new UUID(0x3000L, i), "INC-2025-%06d".formatted(i + 1),
+                    resolved ? "RESOLVED" : "OPEN", ownerId, created, created,
+                    resolved ? Timestamp.valueOf(Fixtures.NOW.minusMinutes(i * 13L)) : null,
+                    resolved ? 5 + (i * 7919) % 2880 : null});
+            if (rows.size() == 1000 || i == incidents - 1) {
+                database.jdbcTemplate.batchUpdate(INSERT_INCIDENT, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public double allTime() {
+        return run(null, null);
+    }
+
+    @Benchmark
+    public double lastThirtyDays() {
+        return run(Fixtures.NOW.minusDays(30), Fixtures.NOW);
+    }
+
+    private double run(LocalDateTime from, LocalDateTime to) {
+        ResolutionTimeRow stats = repository.resolutionTimeStats(from, to);
+        return stats.p50() + stats.p90() + stats.p95() + stats.p99();
+    }
+}
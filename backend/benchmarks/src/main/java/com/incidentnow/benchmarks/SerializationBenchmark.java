@@ -0,0 +1,85 @@
+package com.incidentnow.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.incidentnow.config.DtoMapper;
+import com.incidentnow.config.IncidentResponseSerializer;
+import com.incidentnow.dto.IncidentListItemDTO;
+import com.incidentnow.dto.IncidentResponseDTO;
+import com.incidentnow.dto.PagedResponseDTO;
+import com.incidentnow.dto.PaginationDTO;
+import com.incidentnow.entity.Incident;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the paged list responses, with an {@link ObjectMapper} configured like the
+ * application's ({@code spring.jackson.*} in application.yml). {@code incidentSerializer=bean} swaps
+ * {@link IncidentResponseSerializer} for Jackson's reflective bean serializer to show what it saves;
+ * setup fails if the two do not produce the same bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    @Param({"handwritten", "bean"})
+    String incidentSerializer;
+
+    private ObjectMapper objectMapper;
+    private PagedResponseDTO<IncidentResponseDTO> detailPage;
+    private PagedResponseDTO<IncidentListItemDTO> compactPage;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper beanMapper = builder.build();
+        ObjectMapper handwrittenMapper = builder.serializers(new IncidentResponseSerializer()).build();
+        objectMapper = incidentSerializer.equals("bean") ? beanMapper : handwrittenMapper;
+
+        DtoMapper mapper = new DtoMapper();
+        List<Incident> incidents = Fixtures.incidents(pageSize, 2);
+        PaginationDTO pagination = PaginationDTO.of(1, pageSize, 10_000);
+        detailPage = new PagedResponseDTO<>(incidents.stream().map(mapper::toIncidentResponse).toList(), pagination);
+        compactPage = new PagedResponseDTO<>(incidents.stream()
+                .map(incident -> new IncidentListItemDTO(incident.getId(), incident.getIncidentNumber(),
+                        incident.getTitle(), incident.getStatus(), incident.getPriority(), incident.getSeverity(),
+                        incident.getCategory(), incident.getOwner().getId(), incident.getOwner().getName(),
+                        incident.getDueDate(), incident.getCreatedAt(), incident.getUpdatedAt(),
+                        incident.getResolvedAt(), incident.isSlaBreached()))
+                .toList(), pagination);
+
+        try {
+            if (!Arrays.equals(beanMapper.writeValueAsBytes(detailPage),
+                    handwrittenMapper.writeValueAsBytes(detailPage))) {
+                throw new IllegalStateException("IncidentResponseSerializer output differs from the bean serializer");
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] detailPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detailPage);
+    }
+
+    @Benchmark
+    public byte[] compactPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(compactPage);
+    }
+}
@@ -0,0 +1,59 @@
+package com.incidentnow.benchmarks;
+
+import com.incidentnow.config.DtoMapper;
+import com.incidentnow.dto.TrendDataDTO;
+import com.incidentnow.model.RollupGranularity;
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.repository.IncidentRollupRepository;
+import com.incidentnow.repository.OwnerRepository;
+import com.incidentnow.repository.RollupBucketRow;
+import com.incidentnow.service.StatisticsCache;
+import com.incidentnow.service.StatisticsService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StatisticsService#getIncidentTrends} over a three-month window: zero-filling the periods,
+ * formatting a period key per rollup bucket and folding the buckets into them. The rollup query is
+ * stubbed with pre-built rows and the snapshot cache is disabled, so only the Java side is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrendBucketingBenchmark {
+
+    private static final LocalDate FROM = Fixtures.NOW.toLocalDate().minusMonths(3);
+    private static final LocalDate TO = Fixtures.NOW.toLocalDate();
+
+    @Param({"hour", "day", "week", "month"})
+    String groupBy;
+
+    private StatisticsService statisticsService;
+
+    @Setup
+    public void setUp() {
+        RollupGranularity granularity = "hour".equals(groupBy) ? RollupGranularity.HOUR : RollupGranularity.DAY;
+        List<RollupBucketRow> buckets = Fixtures.rollupBuckets(granularity, FROM, TO);
+        IncidentRollupRepository rollupRepository = Fixtures.stub(IncidentRollupRepository.class,
+                Map.of("sumByBucket", args -> buckets));
+        statisticsService = new StatisticsService(
+                Fixtures.stub(IncidentRepository.class, Map.of()),
+                rollupRepository,
+                Fixtures.stub(OwnerRepository.class, Map.of()),
+                new StatisticsCache(Duration.ZERO),
+                new DtoMapper());
+    }
+
+    @Benchmark
+    public List<TrendDataDTO> incidentTrends() {
+        return statisticsService.getIncidentTrends(FROM, TO, groupBy);
+    }
+}
@@ -0,0 +1,66 @@
+package com.incidentnow.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one operation as seen by one worker. Not thread-safe: every worker has its own and
+ * they are merged once the run is over.
+ */
+final class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long latencyNanos) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = latencyNanos;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    long count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > nanos.length) {
+            nanos = Arrays.copyOf(nanos, Math.max(count + other.count, nanos.length * 2));
+        }
+        System.arraycopy(other.nanos, 0, nanos, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    /** Sorts the recorded values; call once, after the last {@link #merge}. */
+    Summary summarize(double seconds) {
+        Arrays.sort(nanos, 0, count);
+        return new Summary(count, errors, count / seconds, millis(percentile(0.50)), millis(percentile(0.90)),
+                millis(percentile(0.95)), millis(percentile(0.99)), millis(count > 0 ? nanos[count - 1] : 0));
+    }
+
+    // Nearest rank
+    private long percentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * count);
+        return nanos[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    record Summary(long count, long errors, double throughput, double p50Ms, double p90Ms, double p95Ms,
+            double p99Ms, double maxMs) {
+    }
+}
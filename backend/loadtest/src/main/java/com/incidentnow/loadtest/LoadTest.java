@@ -0,0 +1,192 @@
+package com.incidentnow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load driver: {@code concurrency} workers each send a request, wait for the
+ * response and send the next one, choosing the operation by weight from {@code mix}. Latencies
+ * are recorded after the warm-up and reported per operation as percentiles and throughput, on the
+ * console and as JSON.
+ * <pre>
+ * java -jar target/loadtest.jar [--base-url=http://localhost:8080/api/v1] [--duration=60s] [--warmup=10s]
+ *     [--concurrency=32] [--mix=list:35,get:20,search:15,create:5,patch:10,statistics:15]
+ *     [--output=loadtest-results.json]
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final Map<String, String> DEFAULTS = Map.of(
+            "base-url", "http://localhost:8080/api/v1",
+            "duration", "60s",
+            "warmup", "10s",
+            "concurrency", "32",
+            "mix", "list:35,get:20,search:15,create:5,patch:10,statistics:15",
+            "output", "loadtest-results.json");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                System.err.println("Unrecognized argument " + arg + ", expected --name=value");
+                System.exit(2);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!DEFAULTS.containsKey(name)) {
+                System.err.println("Unknown option --" + name + "; options: " + DEFAULTS.keySet());
+                System.exit(2);
+            }
+            options.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadTest().run(options);
+    }
+
+    private void run(Map<String, String> options) throws Exception {
+        String baseUrl = options.get("base-url").replaceAll("/+$", "");
+        Duration duration = duration(options.get("duration"));
+        Duration warmup = duration(options.get("warmup"));
+        int concurrency = Integer.parseInt(options.get("concurrency"));
+        Operation[] wheel = mix(options.get("mix"));
+
+        Operation.Target target = new Operation.Target(baseUrl, ids(baseUrl + "/owners?pageSize=100"),
+                ids(baseUrl + "/incidents?view=compact&pageSize=100"));
+        if (target.ownerIds().isEmpty() || target.incidentIds().isEmpty()) {
+            throw new IllegalStateException("No owners or incidents at " + baseUrl + "; start the API with data");
+        }
+        System.out.printf("Load test against %s: %d workers, %s warm-up, %s measured%n", baseUrl, concurrency,
+                warmup, duration);
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        List<Map<Operation, LatencyRecorder>> perWorker = new ArrayList<>();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+                perWorker.add(recorders);
+                workers.execute(() -> work(target, wheel, recorders, measureFrom, end));
+            }
+        }
+        double seconds = duration.toNanos() / 1e9;
+
+        Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+        LatencyRecorder total = new LatencyRecorder();
+        for (Map<Operation, LatencyRecorder> recorders : perWorker) {
+            recorders.forEach((operation, recorder) -> {
+                merged.computeIfAbsent(operation, o -> new LatencyRecorder()).merge(recorder);
+                total.merge(recorder);
+            });
+        }
+        Map<String, LatencyRecorder.Summary> summaries = new LinkedHashMap<>();
+        merged.forEach((operation, recorder) -> summaries.put(operation.key(), recorder.summarize(seconds)));
+        summaries.put("total", total.summarize(seconds));
+
+        print(summaries);
+        Path output = Path.of(options.get("output"));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", baseUrl);
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", seconds);
+        report.put("mix", options.get("mix"));
+        report.put("operations", summaries);
+        objectMapper.writeValue(output.toFile(), report);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private void work(Operation.Target target, Operation[] wheel, Map<Operation, LatencyRecorder> recorders,
+            long measureFrom, long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Operation operation = wheel[random.nextInt(wheel.length)];
+            HttpRequest request = operation.request(target, random);
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long latency = System.nanoTime() - now;
+            if (now >= measureFrom) {
+                LatencyRecorder recorder = recorders.computeIfAbsent(operation, o -> new LatencyRecorder());
+                if (ok) {
+                    recorder.record(latency);
+                } else {
+                    recorder.error();
+                }
+            }
+        }
+    }
+
+    private List<UUID> ids(String url) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + url + " returned " + response.statusCode());
+        }
+        List<UUID> ids = new ArrayList<>();
+        for (JsonNode item : objectMapper.readTree(response.body()).path("data")) {
+            ids.add(UUID.fromString(item.path("id").asText()));
+        }
+        return ids;
+    }
+
+    /** Expands {@code list:35,get:20,...} into a wheel with one slot per weight unit. */
+    private static Operation[] mix(String spec) {
+        List<Operation> wheel = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] nameAndWeight = part.trim().split(":");
+            Operation operation = Operation.valueOf(nameAndWeight[0].trim().toUpperCase());
+            int weight = nameAndWeight.length > 1 ? Integer.parseInt(nameAndWeight[1].trim()) : 1;
+            for (int i = 0; i < weight; i++) {
+                wheel.add(operation);
+            }
+        }
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("Empty --mix");
+        }
+        return wheel.toArray(Operation[]::new);
+    }
+
+    /** {@code 90s}, {@code 5m} or ISO-8601 ({@code PT1M30S}). */
+    private static Duration duration(String value) {
+        if (value.startsWith("P") || value.startsWith("p")) {
+            return Duration.parse(value);
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration " + value);
+        };
+    }
+
+    private static void print(Map<String, LatencyRecorder.Summary> summaries) {
+        System.out.printf("%n%-12s %9s %7s %9s %9s %9s %9s %9s %9s%n", "operation", "requests", "errors",
+                "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+        summaries.forEach((name, s) -> System.out.printf("%-12s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p90Ms(), s.p95Ms(), s.p99Ms(), s.maxMs()));
+        System.out.println();
+    }
+}
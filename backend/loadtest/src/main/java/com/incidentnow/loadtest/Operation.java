@@ -0,0 +1,102 @@
+package com.incidentnow.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The requests the load test mixes, each built with random but valid parameters.
+ */
+enum Operation {
+
+    LIST {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            String filter = switch (random.nextInt(4)) {
+                case 0 -> "&status=" + pick(random, STATUSES);
+                case 1 -> "&priority=" + pick(random, PRIORITIES);
+                case 2 -> "&view=compact";
+                default -> "";
+            };
+            return target.get("/incidents?page=" + (1 + random.nextInt(10)) + "&pageSize=20" + filter);
+        }
+    },
+
+    GET {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            return target.get("/incidents/" + pick(random, target.incidentIds()));
+        }
+    },
+
+    SEARCH {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            return target.get("/incidents/search?q=" + pick(random, SEARCH_TERMS) + "&pageSize=20");
+        }
+    },
+
+    CREATE {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            String body = """
+                    {"title":"Load test: %s","description":"Created by the load test","priority":"%s",\
+                    "severity":"%s","category":"%s","tags":["loadtest"],"ownerId":"%s"}"""
+                    .formatted(pick(random, SEARCH_TERMS), pick(random, PRIORITIES), pick(random, PRIORITIES),
+                            pick(random, CATEGORIES), pick(random, target.ownerIds()));
+            return target.send("POST", "/incidents", body);
+        }
+    },
+
+    PATCH {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            return target.send("PATCH", "/incidents/" + pick(random, target.incidentIds()),
+                    "{\"priority\":\"" + pick(random, PRIORITIES) + "\"}");
+        }
+    },
+
+    STATISTICS {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            return target.get(pick(random, STATISTICS_PATHS));
+        }
+    };
+
+    private static final List<String> STATUSES = List.of("open", "in_progress", "resolved", "closed");
+    private static final List<String> PRIORITIES = List.of("low", "medium", "high", "critical");
+    private static final List<String> CATEGORIES = List.of("network", "database", "software", "security",
+            "performance", "application");
+    private static final List<String> SEARCH_TERMS = List.of("latency", "timeout", "checkout", "database",
+            "certificate", "memory", "error", "unavailable", "payments", "disk");
+    private static final List<String> STATISTICS_PATHS = List.of("/statistics/summary", "/statistics/by-status",
+            "/statistics/trends?groupBy=day", "/statistics/resolution-time?groupBy=week",
+            "/statistics/by-owner?limit=10");
+
+    abstract HttpRequest request(Target target, ThreadLocalRandom random);
+
+    String key() {
+        return name().toLowerCase();
+    }
+
+    private static <T> T pick(ThreadLocalRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /** Where requests go, and the ids discovered before the run that requests can refer to. */
+    record Target(String baseUrl, List<UUID> ownerIds, List<UUID> incidentIds) {
+
+        HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        }
+
+        HttpRequest send(String method, String path, String json) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+    }
+}
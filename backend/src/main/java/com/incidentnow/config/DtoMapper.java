@@ -2,6 +2,7 @@ package com.incidentnow.config;
 
 import com.incidentnow.dto.*;
 import com.incidentnow.entity.*;
+import com.incidentnow.repository.TimelineEventRow;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
@@ -58,7 +59,7 @@ public class DtoMapper {
                 se.isOnCall(),
                 se.getWorkingHoursStart(),
                 se.getWorkingHoursEnd(),
-                se.getCategories(),
+                List.copyOf(se.getCategories()),
                 se.getCreatedAt(),
                 se.getUpdatedAt());
     }
@@ -72,7 +73,7 @@ public class DtoMapper {
                 se.getEmail(),
                 se.getAvatarUrl(),
                 se.isOnCall(),
-                se.getCategories());
+                List.copyOf(se.getCategories()));
     }
 
     // ===== Incident Mappings =====
@@ -106,8 +107,8 @@ public class DtoMapper {
                 incident.getPriority(),
                 incident.getSeverity(),
                 incident.getCategory(),
-                incident.getTags(),
-                incident.getAffectedSystems(),
+                List.copyOf(incident.getTags()),
+                List.copyOf(incident.getAffectedSystems()),
                 incident.getAffectedUsers(),
                 toOwnerSummary(incident.getOwner()),
                 assignees,
@@ -154,15 +155,19 @@ public class DtoMapper {
 
     // ===== Timeline Mappings =====
 
-    public TimelineEventDTO toTimelineEventDTO(TimelineEvent event) {
+    public TimelineEventDTO toTimelineEventDTO(TimelineEventRow row) {
+        OwnerSummaryDTO actor = row.actorId() != null
+                ? new OwnerSummaryDTO(row.actorId(), row.actorName(), row.actorEmail(), row.actorAvatarUrl(),
+                        row.actorTeam(), row.actorRole())
+                : null;
         return new TimelineEventDTO(
-                event.getId(),
-                event.getIncident().getId(),
-                event.getEventType(),
-                event.getDescription(),
-                event.getPreviousValue(),
-                event.getNewValue(),
-                toOwnerSummary(event.getActor()),
-                event.getTimestamp());
+                row.id(),
+                row.incidentId(),
+                row.eventType(),
+                row.description(),
+                row.previousValue(),
+                row.newValue(),
+                actor,
+                row.timestamp());
     }
 }
@@ -0,0 +1,263 @@
+package com.incidentnow.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.incidentnow.dto.GitHubRepoDTO;
+import com.incidentnow.dto.IncidentResponseDTO;
+import com.incidentnow.dto.OwnerSummaryDTO;
+import com.incidentnow.dto.SupportEngineerSummaryDTO;
+import com.incidentnow.model.IncidentCategory;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes {@link IncidentResponseDTO}, the largest and most frequent payload, field by field with
+ * pre-encoded names instead of going through Jackson's reflective bean serializer. The output is
+ * what the bean serializer produces with the {@code spring.jackson} settings in application.yml:
+ * nulls omitted, enums as their value and dates as ISO-8601 strings (or Jackson's timestamps, if
+ * enabled). A field added to the DTO or its nested records has to be added here as well.
+ */
+@JsonComponent
+public class IncidentResponseSerializer extends StdSerializer<IncidentResponseDTO> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString INCIDENT_NUMBER = new SerializedString("incidentNumber");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString PRIORITY = new SerializedString("priority");
+    private static final SerializableString SEVERITY = new SerializedString("severity");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString TAGS = new SerializedString("tags");
+    private static final SerializableString AFFECTED_SYSTEMS = new SerializedString("affectedSystems");
+    private static final SerializableString AFFECTED_USERS = new SerializedString("affectedUsers");
+    private static final SerializableString OWNER = new SerializedString("owner");
+    private static final SerializableString ASSIGNEES = new SerializedString("assignees");
+    private static final SerializableString ROOT_CAUSE = new SerializedString("rootCause");
+    private static final SerializableString RESOLUTION = new SerializedString("resolution");
+    private static final SerializableString WORKAROUND = new SerializedString("workaround");
+    private static final SerializableString GITHUB_REPO = new SerializedString("githubRepo");
+    private static final SerializableString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString ACKNOWLEDGED_AT = new SerializedString("acknowledgedAt");
+    private static final SerializableString RESOLVED_AT = new SerializedString("resolvedAt");
+    private static final SerializableString CLOSED_AT = new SerializedString("closedAt");
+    private static final SerializableString SLA_BREACHED = new SerializedString("slaBreached");
+    private static final SerializableString TIME_TO_ACKNOWLEDGE = new SerializedString("timeToAcknowledge");
+    private static final SerializableString TIME_TO_RESOLVE = new SerializedString("timeToResolve");
+
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString AVATAR_URL = new SerializedString("avatarUrl");
+    private static final SerializableString TEAM = new SerializedString("team");
+    private static final SerializableString ROLE = new SerializedString("role");
+    private static final SerializableString ON_CALL = new SerializedString("onCall");
+    private static final SerializableString CATEGORIES = new SerializedString("categories");
+
+    private static final SerializableString REPO_OWNER = new SerializedString("repoOwner");
+    private static final SerializableString REPO_NAME = new SerializedString("repoName");
+    private static final SerializableString REPO_URL = new SerializedString("repoUrl");
+    private static final SerializableString BRANCH = new SerializedString("branch");
+    private static final SerializableString ISSUE_NUMBER = new SerializedString("issueNumber");
+    private static final SerializableString ISSUE_URL = new SerializedString("issueUrl");
+    private static final SerializableString PULL_REQUEST_NUMBER = new SerializedString("pullRequestNumber");
+    private static final SerializableString PULL_REQUEST_URL = new SerializedString("pullRequestUrl");
+    private static final SerializableString COMMIT_SHA = new SerializedString("commitSha");
+
+    public IncidentResponseSerializer() {
+        super(IncidentResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(IncidentResponseDTO incident, JsonGenerator g, SerializerProvider provider)
+            throws IOException {
+        g.writeStartObject(incident);
+        writeUuid(g, ID, incident.id());
+        writeString(g, INCIDENT_NUMBER, incident.incidentNumber());
+        writeString(g, TITLE, incident.title());
+        writeString(g, DESCRIPTION, incident.description());
+        writeString(g, STATUS, incident.status() != null ? incident.status().getValue() : null);
+        writeString(g, PRIORITY, incident.priority() != null ? incident.priority().getValue() : null);
+        writeString(g, SEVERITY, incident.severity() != null ? incident.severity().getValue() : null);
+        writeString(g, CATEGORY, incident.category() != null ? incident.category().getValue() : null);
+        writeStrings(g, TAGS, incident.tags());
+        writeStrings(g, AFFECTED_SYSTEMS, incident.affectedSystems());
+        writeInteger(g, AFFECTED_USERS, incident.affectedUsers());
+        if (incident.owner() != null) {
+            g.writeFieldName(OWNER);
+            writeOwner(g, incident.owner());
+        }
+        if (incident.assignees() != null) {
+            g.writeFieldName(ASSIGNEES);
+            g.writeStartArray();
+            for (SupportEngineerSummaryDTO assignee : incident.assignees()) {
+                writeSupportEngineer(g, assignee);
+            }
+            g.writeEndArray();
+        }
+        writeString(g, ROOT_CAUSE, incident.rootCause());
+        writeString(g, RESOLUTION, incident.resolution());
+        writeString(g, WORKAROUND, incident.workaround());
+        if (incident.githubRepo() != null) {
+            g.writeFieldName(GITHUB_REPO);
+            writeGitHubRepo(g, incident.githubRepo());
+        }
+        writeDateTime(g, provider, DUE_DATE, incident.dueDate());
+        writeDateTime(g, provider, CREATED_AT, incident.createdAt());
+        writeDateTime(g, provider, UPDATED_AT, incident.updatedAt());
+        writeDateTime(g, provider, ACKNOWLEDGED_AT, incident.acknowledgedAt());
+        writeDateTime(g, provider, RESOLVED_AT, incident.resolvedAt());
+        writeDateTime(g, provider, CLOSED_AT, incident.closedAt());
+        g.writeFieldName(SLA_BREACHED);
+        g.writeBoolean(incident.slaBreached());
+        writeInteger(g, TIME_TO_ACKNOWLEDGE, incident.timeToAcknowledge());
+        writeInteger(g, TIME_TO_RESOLVE, incident.timeToResolve());
+        g.writeEndObject();
+    }
+
+    private static void writeOwner(JsonGenerator g, OwnerSummaryDTO owner) throws IOException {
+        g.writeStartObject(owner);
+        writeUuid(g, ID, owner.id());
+        writeString(g, NAME, owner.name());
+        writeString(g, EMAIL, owner.email());
+        writeString(g, AVATAR_URL, owner.avatarUrl());
+        writeString(g, TEAM, owner.team());
+        writeString(g, ROLE, owner.role() != null ? owner.role().getValue() : null);
+        g.writeEndObject();
+    }
+
+    private static void writeSupportEngineer(JsonGenerator g, SupportEngineerSummaryDTO engineer) throws IOException {
+        if (engineer == null) {
+            g.writeNull();
+            return;
+        }
+        g.writeStartObject(engineer);
+        writeUuid(g, ID, engineer.id());
+        writeString(g, NAME, engineer.name());
+        writeString(g, EMAIL, engineer.email());
+        writeString(g, AVATAR_URL, engineer.avatarUrl());
+        g.writeFieldName(ON_CALL);
+        g.writeBoolean(engineer.onCall());
+        if (engineer.categories() != null) {
+            g.writeFieldName(CATEGORIES);
+            g.writeStartArray();
+            for (IncidentCategory category : engineer.categories()) {
+                if (category != null) {
+                    g.writeString(category.getValue());
+                } else {
+                    g.writeNull();
+                }
+            }
+            g.writeEndArray();
+        }
+        g.writeEndObject();
+    }
+
+    private static void writeGitHubRepo(JsonGenerator g, GitHubRepoDTO repo) throws IOException {
+        g.writeStartObject(repo);
+        writeString(g, REPO_OWNER, repo.repoOwner());
+        writeString(g, REPO_NAME, repo.repoName());
+        writeString(g, REPO_URL, repo.repoUrl());
+        writeString(g, BRANCH, repo.branch());
+        writeInteger(g, ISSUE_NUMBER, repo.issueNumber());
+        writeString(g, ISSUE_URL, repo.issueUrl());
+        writeInteger(g, PULL_REQUEST_NUMBER, repo.pullRequestNumber());
+        writeString(g, PULL_REQUEST_URL, repo.pullRequestUrl());
+        writeString(g, COMMIT_SHA, repo.commitSha());
+        g.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator g, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            g.writeFieldName(name);
+            g.writeString(value);
+        }
+    }
+
+    private static void writeUuid(JsonGenerator g, SerializableString name, UUID value) throws IOException {
+        if (value != null) {
+            g.writeFieldName(name);
+            g.writeString(value.toString());
+        }
+    }
+
+    private static void writeInteger(JsonGenerator g, SerializableString name, Integer value) throws IOException {
+        if (value != null) {
+            g.writeFieldName(name);
+            g.writeNumber(value);
+        }
+    }
+
+    private static void writeStrings(JsonGenerator g, SerializableString name, List<String> values)
+            throws IOException {
+        if (values != null) {
+            g.writeFieldName(name);
+            g.writeStartArray();
+            for (String value : values) {
+                g.writeString(value);
+            }
+            g.writeEndArray();
+        }
+    }
+
+    /**
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}, which Jackson uses for {@code LocalDateTime},
+     * without the formatter: seconds always, then the fraction with trailing zeros removed.
+     */
+    private static void writeDateTime(JsonGenerator g, SerializerProvider provider, SerializableString name,
+            LocalDateTime value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeField(name.getValue(), value, g);
+            return;
+        }
+        g.writeFieldName(name);
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            g.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = new char[29];
+        digits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond(), 2);
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            buffer[19] = '.';
+            digits(buffer, 20, nano, 9);
+            length = 29;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        g.writeString(buffer, 0, length);
+    }
+
+    private static void digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.incidentnow.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.incidentnow.entity.Owner;
+import com.incidentnow.entity.SupportEngineer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ObjectUtils;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache regions for owners and support engineers, which nearly every
+ * incident read and write loads and which rarely change. The regions are read-write, so changes
+ * made through Hibernate (the owner and support engineer services) replace the cached entry when
+ * they commit; the TTL only bounds staleness for rows changed behind Hibernate's back.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final List<String> REGIONS = List.of(Owner.CACHE_REGION, SupportEngineer.CACHE_REGION,
+            SupportEngineer.CATEGORIES_CACHE_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${app.cache.max-entries:10000}") long maxEntries,
+            @Value("${app.cache.ttl:1h}") Duration ttl, MeterRegistry registry) {
+        // The provider shares managers JVM-wide by URI; one per application context keeps test contexts apart
+        URI uri = URI.create("incident-now-hibernate-" + ObjectUtils.getIdentityHexString(this));
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(uri, getClass().getClassLoader());
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            Cache<Object, Object> cache = cacheManager.createCache(region, configuration);
+            JCacheMetrics.monitor(registry, cache);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+    }
+}
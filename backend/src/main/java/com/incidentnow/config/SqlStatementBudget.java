@@ -0,0 +1,78 @@
+package com.incidentnow.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint limits on the SQL statements a request may run. A request over its budget is logged
+ * with its most repeated statement and counted as {@code incidentnow.http.sql.budget.exceeded};
+ * with {@code app.sql-budget.fail-on-exceed} it also fails, which is meant for integration tests.
+ * Responses with a body are checked by {@link SqlStatementBudgetAdvice} before the body is written,
+ * so the failure reaches the client as a 500; others by {@link SqlStatementMetricsFilter} afterwards.
+ */
+@Component
+public class SqlStatementBudget {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudget.class);
+
+    private final int defaultBudget;
+    private final Map<String, Integer> endpointBudgets = new HashMap<>();
+    private final boolean failOnExceed;
+    private final MeterRegistry registry;
+
+    public SqlStatementBudget(@Value("${app.sql-budget.default:10}") int defaultBudget,
+            @Value("${app.sql-budget.endpoints:}") String[] endpoints,
+            @Value("${app.sql-budget.fail-on-exceed:false}") boolean failOnExceed,
+            MeterRegistry registry) {
+        this.defaultBudget = defaultBudget;
+        this.failOnExceed = failOnExceed;
+        this.registry = registry;
+        for (String endpoint : endpoints) {
+            int separator = endpoint.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException(
+                        "Invalid app.sql-budget.endpoints entry '" + endpoint + "', expected 'METHOD /path=statements'");
+            }
+            endpointBudgets.put(endpoint.substring(0, separator).trim().replaceAll("\\s+", " "),
+                    Integer.parseInt(endpoint.substring(separator + 1).trim()));
+        }
+    }
+
+    /** Budget for a handler mapping pattern such as {@code GET /incidents/{incidentId}}; 0 means unlimited. */
+    public int budget(String method, String uri) {
+        return endpointBudgets.getOrDefault(method + " " + uri, defaultBudget);
+    }
+
+    /**
+     * Counts and logs a request over its budget, or with {@code app.sql-budget.fail-on-exceed} throws
+     * {@link IllegalStateException} if {@code mayFail}: once the response is committed, failing would
+     * only log the exception while the client still sees the original status.
+     */
+    public void check(String method, String uri, SqlStatementCounter.Tally tally, boolean mayFail) {
+        int budget = budget(method, uri);
+        if (budget <= 0 || tally.total() <= budget) {
+            return;
+        }
+        Counter.builder("incidentnow.http.sql.budget.exceeded")
+                .description("Requests that ran more SQL statements than their budget")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(registry)
+                .increment();
+
+        Map.Entry<String, Integer> mostRepeated = tally.mostRepeated();
+        String message = "%s %s ran %d SQL statements, budget is %d; most repeated (%dx): %s".formatted(method, uri,
+                tally.total(), budget, mostRepeated.getValue(), mostRepeated.getKey());
+        if (failOnExceed && mayFail) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.incidentnow.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Checks the request's SQL statements against its {@link SqlStatementBudget} just before the
+ * response body is written, while the response can still become an error, and reports the count
+ * in an {@value #HEADER} header. With {@code open-in-view} off, serialization runs no queries, so
+ * the count is final at this point.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SqlStatementBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-SQL-Statements";
+
+    /** Request attribute set once the budget was checked, so an error body written afterwards is not checked again. */
+    static final String CHECKED_ATTRIBUTE = SqlStatementBudgetAdvice.class.getName() + ".checked";
+
+    private final SqlStatementCounter counter;
+    private final SqlStatementBudget budget;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+            Class<? extends HttpMessageConverter<?>> converterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        SqlStatementCounter.Tally tally = counter.current();
+        if (tally == null || httpRequest.getAttribute(CHECKED_ATTRIBUTE) != null) {
+            return body;
+        }
+        httpRequest.setAttribute(CHECKED_ATTRIBUTE, Boolean.TRUE);
+        response.getHeaders().set(HEADER, Integer.toString(tally.total()));
+        Object pattern = httpRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            budget.check(httpRequest.getMethod(), pattern.toString(), tally, true);
+        }
+        return body;
+    }
+}
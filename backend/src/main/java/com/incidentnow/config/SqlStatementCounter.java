@@ -0,0 +1,69 @@
+package com.incidentnow.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start} and
+ * {@link #stop}. Statements issued through {@code JdbcTemplate} (timeline batches, rollups) bypass
+ * Hibernate and are not counted; a JDBC batch counts once.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final ThreadLocal<Tally> tally = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put("hibernate.session_factory.statement_inspector", this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Tally current = tally.get();
+        if (current != null) {
+            current.add(sql);
+        }
+        return sql;
+    }
+
+    public void start() {
+        tally.set(new Tally());
+    }
+
+    /** Statements so far since {@link #start}, or {@code null} if counting was not started on this thread. */
+    public Tally current() {
+        return tally.get();
+    }
+
+    /** Statements since {@link #start}, or {@code null} if counting was not started on this thread. */
+    public Tally stop() {
+        Tally current = tally.get();
+        tally.remove();
+        return current;
+    }
+
+    public static final class Tally {
+
+        private final Map<String, Integer> bySql = new HashMap<>();
+        private int total;
+
+        private void add(String sql) {
+            total++;
+            bySql.merge(sql, 1, Integer::sum);
+        }
+
+        public int total() {
+            return total;
+        }
+
+        /** The statement prepared most often, the usual suspect of an N+1; {@code null} if none ran. */
+        public Map.Entry<String, Integer> mostRepeated() {
+            return bySql.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.incidentnow.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request ran as {@code incidentnow.http.sql.statements},
+ * tagged like {@code http.server.requests} so a per-endpoint jump (an N+1) stands out. Work done
+ * after the request thread returns, such as streamed responses, is not counted. Responses without a
+ * body, which {@link SqlStatementBudgetAdvice} does not see, are checked against the endpoint's
+ * {@link SqlStatementBudget} here.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final SqlStatementCounter counter;
+    private final SqlStatementBudget budget;
+    private final MeterRegistry registry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Tally tally;
+        counter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            tally = counter.stop();
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            DistributionSummary.builder("incidentnow.http.sql.statements")
+                    .description("SQL statements run by Hibernate per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern.toString())
+                    .register(registry)
+                    .record(tally.total());
+            if (request.getAttribute(SqlStatementBudgetAdvice.CHECKED_ATTRIBUTE) == null) {
+                budget.check(request.getMethod(), pattern.toString(), tally, !response.isCommitted());
+            }
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.incidentnow.config;
+
+import com.incidentnow.model.*;
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.repository.OwnerRepository;
+import com.incidentnow.service.IncidentNumberAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Fills the database with a production-sized synthetic history for load tests: owners, support
+ * engineers and incidents with their assignees, comments and timeline events. Rows are written
+ * with JDBC batches, a chunk of incidents per transaction, so timestamps can lie in the past and a
+ * hundred thousand incidents take seconds rather than minutes. Runs once the schema exists but
+ * before the web server starts, so no request races the generation, and before the rollups, the
+ * search index and the incident number allocators initialize, so all of them pick the generated
+ * rows up. The sample data loaders then find owners present and skip.
+ * <p>
+ * The data is deterministic, relative to the start time, for a given {@code app.data.synthetic.seed}.
+ * Distributions:
+ * <ul>
+ * <li>creation times spread over {@code history}, mostly on weekdays and office hours;</li>
+ * <li>priority mostly medium/low, severity correlated with priority, a few hot categories;</li>
+ * <li>a few owners own most incidents;</li>
+ * <li>acknowledge and resolve times grow with lower priority and vary widely, and incidents
+ * resolved after their due date are SLA breaches;</li>
+ * <li>recent incidents are still open or in progress, old ones resolved or closed.</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "app.data.synthetic.enabled", havingValue = "true")
+public class SyntheticDataGenerator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String EMAIL_DOMAIN = "@synthetic.incidentnow.io";
+
+    private static final String OWNER_SQL = """
+            INSERT INTO owners (id, name, email, password, phone, team, role, department, timezone,
+                slack_handle, github_username, active, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String ENGINEER_SQL = """
+            INSERT INTO support_engineers (id, name, email, phone, timezone, slack_handle, github_username,
+                active, on_call, working_hours_start, working_hours_end, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String ENGINEER_CATEGORY_SQL =
+            "INSERT INTO support_engineer_categories (support_engineer_id, category) VALUES (?, ?)";
+    private static final String INCIDENT_SQL = """
+            INSERT INTO incidents (id, incident_number, title, description, status, priority, severity, category,
+                affected_users, owner_id, root_cause, resolution, github_repo_owner, github_repo_name,
+                github_issue_number, due_date, created_at, updated_at, acknowledged_at, resolved_at, closed_at,
+                sla_breached, time_to_acknowledge, time_to_resolve)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String TAG_SQL = "INSERT INTO incident_tags (incident_id, tag) VALUES (?, ?)";
+    private static final String SYSTEM_SQL =
+            "INSERT INTO incident_affected_systems (incident_id, system_name) VALUES (?, ?)";
+    private static final String ASSIGNEE_SQL =
+            "INSERT INTO incident_assignees (incident_id, support_engineer_id) VALUES (?, ?)";
+    private static final String COMMENT_SQL = """
+            INSERT INTO comments (id, incident_id, author_id, content, is_internal, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String TIMELINE_SQL = """
+            INSERT INTO timeline_events (id, incident_id, event_type, description, previous_value, new_value,
+                actor_id, timestamp)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // Cumulative weights, in enum order
+    private static final int[] PRIORITY_WEIGHTS = {30, 70, 92, 100}; // LOW, MEDIUM, HIGH, CRITICAL
+    private static final int[] CATEGORY_WEIGHTS = {12, 17, 35, 41, 52, 64, 82, 90, 97, 100};
+
+    // Median minutes to acknowledge and to resolve, and the resolution SLA, per priority
+    private static final int[] ACK_MINUTES = {240, 90, 20, 5};
+    private static final int[] RESOLVE_MINUTES = {4320, 1440, 480, 120};
+    private static final int[] SLA_MINUTES = {10080, 4320, 1440, 240};
+
+    private static final String[] TEAMS = {"Platform", "Infrastructure", "Security", "Data", "Payments", "Identity"};
+    private static final String[] SYSTEMS = {"checkout-api", "payments-gateway", "auth-service", "search",
+            "orders-db", "cdn", "message-broker", "billing", "notifications", "reporting"};
+    private static final String[] TAGS = {"production", "customer-facing", "regression", "capacity", "config",
+            "deploy", "third-party", "data-loss", "latency", "outage", "intermittent", "monitoring"};
+    private static final String[] SYMPTOMS = {"Elevated error rate", "Latency above SLO", "Intermittent timeouts",
+            "Service unavailable", "Failed deployments", "Data inconsistency", "Certificate expiry warning",
+            "Disk usage critical", "Unauthorized access attempts", "Memory leak"};
+    private static final String[] COMMENTS = {"Investigating, will update shortly.",
+            "Rolled back the last deployment, monitoring.", "Vendor has acknowledged the issue.",
+            "Root cause identified, preparing a fix.", "Customers notified through the status page.",
+            "Fix deployed to staging, verifying.", "Metrics back to normal for the last 30 minutes."};
+    private static final String[] TIMEZONES = {"Europe/Madrid", "Europe/London", "America/New_York",
+            "America/Los_Angeles", "Asia/Kolkata"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OwnerRepository ownerRepository;
+    private final IncidentRepository incidentRepository;
+    private final int ownerCount;
+    private final int engineerCount;
+    private final int incidentCount;
+    private final int commentsPerIncident;
+    private final Duration history;
+    private final long seed;
+
+    private final Map<Integer, Long> lastSequence = new HashMap<>();
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            OwnerRepository ownerRepository, IncidentRepository incidentRepository,
+            @Value("${app.data.synthetic.owners:200}") int ownerCount,
+            @Value("${app.data.synthetic.engineers:400}") int engineerCount,
+            @Value("${app.data.synthetic.incidents:100000}") int incidentCount,
+            @Value("${app.data.synthetic.comments-per-incident:3}") int commentsPerIncident,
+            @Value("${app.data.synthetic.history:365d}") Duration history,
+            @Value("${app.data.synthetic.seed:42}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ownerRepository = ownerRepository;
+        this.incidentRepository = incidentRepository;
+        if (ownerCount < 1 || engineerCount < 1) {
+            throw new IllegalArgumentException("app.data.synthetic needs at least one owner and one engineer");
+        }
+        this.ownerCount = ownerCount;
+        this.engineerCount = engineerCount;
+        this.incidentCount = incidentCount;
+        this.commentsPerIncident = commentsPerIncident;
+        this.history = history;
+        this.seed = seed;
+    }
+
+    private record Engineer(UUID id, String name, IncidentCategory category) {
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (ownerRepository.existsByEmail(ownerEmail(0))) {
+            log.info("Synthetic data already present, skipping");
+            return;
+        }
+        log.info("Generating synthetic data: {} owners, {} engineers, {} incidents", ownerCount, engineerCount,
+                incidentCount);
+        long start = System.nanoTime();
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        List<UUID> owners = transactionTemplate.execute(status -> insertOwners(random, now));
+        List<Engineer> engineers = transactionTemplate.execute(status -> insertEngineers(random, now));
+        Map<IncidentCategory, List<Engineer>> engineersByCategory = new EnumMap<>(IncidentCategory.class);
+        for (Engineer engineer : engineers) {
+            engineersByCategory.computeIfAbsent(engineer.category(), c -> new ArrayList<>()).add(engineer);
+        }
+
+        long[] totals = new long[2];
+        for (int from = 0; from < incidentCount; from += CHUNK_SIZE) {
+            int count = Math.min(CHUNK_SIZE, incidentCount - from);
+            transactionTemplate.executeWithoutResult(status -> {
+                long[] written = insertIncidents(random, now, count, owners, engineers, engineersByCategory);
+                totals[0] += written[0];
+                totals[1] += written[1];
+            });
+        }
+        log.info("Generated {} incidents with {} comments and {} timeline events in {} ms", incidentCount,
+                totals[0], totals[1], Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private List<UUID> insertOwners(Random random, LocalDateTime now) {
+        List<UUID> ids = new ArrayList<>(ownerCount);
+        List<Object[]> rows = new ArrayList<>(ownerCount);
+        for (int i = 0; i < ownerCount; i++) {
+            UUID id = uuid(random);
+            ids.add(id);
+            LocalDateTime createdAt = now.minus(history).minusDays(random.nextInt(365));
+            rows.add(new Object[] {id, "Synthetic Owner " + (i + 1), ownerEmail(i), "demo1234",
+                    "+1-555-%04d".formatted(i % 10000), TEAMS[i % TEAMS.length],
+                    pick(random, OwnerRole.values()).name(), "Engineering", pick(random, TIMEZONES),
+                    "@owner" + (i + 1), "owner" + (i + 1), random.nextInt(20) != 0, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(OWNER_SQL, rows);
+        return ids;
+    }
+
+    private List<Engineer> insertEngineers(Random random, LocalDateTime now) {
+        List<Engineer> engineers = new ArrayList<>(engineerCount);
+        List<Object[]> rows = new ArrayList<>(engineerCount);
+        List<Object[]> categoryRows = new ArrayList<>();
+        for (int i = 0; i < engineerCount; i++) {
+            UUID id = uuid(random);
+            String name = "Synthetic Engineer " + (i + 1);
+            // Everyone has a primary category; some also cover a second one
+            IncidentCategory primary = IncidentCategory.values()[weighted(random, CATEGORY_WEIGHTS)];
+            engineers.add(new Engineer(id, name, primary));
+            categoryRows.add(new Object[] {id, primary.name()});
+            if (random.nextInt(3) == 0) {
+                IncidentCategory secondary = pick(random, IncidentCategory.values());
+                if (secondary != primary) {
+                    categoryRows.add(new Object[] {id, secondary.name()});
+                }
+            }
+            LocalDateTime createdAt = now.minus(history).minusDays(random.nextInt(365));
+            int startHour = 6 + random.nextInt(6);
+            rows.add(new Object[] {id, name, "engineer" + (i + 1) + EMAIL_DOMAIN, "+1-555-%04d".formatted(i % 10000),
+                    pick(random, TIMEZONES), "@engineer" + (i + 1), "engineer" + (i + 1), random.nextInt(20) != 0,
+                    random.nextInt(8) == 0, LocalTime.of(startHour, 0), LocalTime.of(startHour + 8, 0), createdAt,
+                    createdAt});
+        }
+        jdbcTemplate.batchUpdate(ENGINEER_SQL, rows);
+        jdbcTemplate.batchUpdate(ENGINEER_CATEGORY_SQL, categoryRows);
+        return engineers;
+    }
+
+    /** Returns the number of comments and timeline events written. */
+    private long[] insertIncidents(Random random, LocalDateTime now, int count, List<UUID> owners,
+            List<Engineer> engineers, Map<IncidentCategory, List<Engineer>> engineersByCategory) {
+        List<Object[]> incidents = new ArrayList<>(count);
+        List<Object[]> tags = new ArrayList<>();
+        List<Object[]> systems = new ArrayList<>();
+        List<Object[]> assignees = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        List<Object[]> events = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            UUID id = uuid(random);
+            LocalDateTime createdAt = creationTime(random, now);
+            Priority priority = Priority.values()[weighted(random, PRIORITY_WEIGHTS)];
+            int p = priority.ordinal();
+            Severity severity = Severity.values()[Math.clamp(p + random.nextInt(3) - 1, 0, 3)];
+            IncidentCategory category = IncidentCategory.values()[weighted(random, CATEGORY_WEIGHTS)];
+            // Squaring skews towards the first owners: a few own most incidents
+            UUID ownerId = owners.get((int) (owners.size() * Math.pow(random.nextDouble(), 2)));
+            String number = nextNumber(createdAt.getYear());
+            String title = pick(random, SYMPTOMS) + " in " + pick(random, SYSTEMS);
+            LocalDateTime dueDate = createdAt.plusMinutes(SLA_MINUTES[p]);
+
+            // Long-tailed durations around the priority's median
+            LocalDateTime acknowledgedAt = createdAt.plusMinutes(1 + longTail(random, ACK_MINUTES[p]));
+            LocalDateTime resolvedAt = acknowledgedAt.plusMinutes(longTail(random, RESOLVE_MINUTES[p]));
+            LocalDateTime closedAt = resolvedAt.plusMinutes(longTail(random, 1440));
+            if (acknowledgedAt.isAfter(now)) {
+                acknowledgedAt = null;
+            }
+            if (acknowledgedAt == null || resolvedAt.isAfter(now)) {
+                resolvedAt = null;
+            }
+            if (resolvedAt == null || closedAt.isAfter(now)) {
+                closedAt = null;
+            }
+            IncidentStatus status = closedAt != null ? IncidentStatus.CLOSED
+                    : resolvedAt != null ? IncidentStatus.RESOLVED
+                    : acknowledgedAt == null ? IncidentStatus.OPEN
+                    : random.nextInt(10) == 0 ? IncidentStatus.ON_HOLD
+                    : IncidentStatus.IN_PROGRESS;
+            Integer timeToAcknowledge = acknowledgedAt != null ? minutes(createdAt, acknowledgedAt) : null;
+            Integer timeToResolve = resolvedAt != null ? minutes(createdAt, resolvedAt) : null;
+            boolean slaBreached = (resolvedAt != null ? resolvedAt : now).isAfter(dueDate);
+            LocalDateTime updatedAt = Collections.max(Arrays.asList(createdAt,
+                    Objects.requireNonNullElse(acknowledgedAt, createdAt),
+                    Objects.requireNonNullElse(resolvedAt, createdAt),
+                    Objects.requireNonNullElse(closedAt, createdAt)));
+            boolean linked = random.nextInt(4) == 0;
+
+            incidents.add(new Object[] {id, number, title,
+                    title + ". Reported by monitoring, " + (1 + random.nextInt(50)) + " alerts fired.",
+                    status.name(), priority.name(), severity.name(), category.name(),
+                    random.nextInt(5) == 0 ? null : (int) longTail(random, 200), ownerId,
+                    resolvedAt != null ? "Misconfiguration in " + pick(random, SYSTEMS) : null,
+                    resolvedAt != null ? "Configuration corrected and verified" : null,
+                    linked ? "incident-now" : null, linked ? pick(random, SYSTEMS) : null,
+                    linked ? 1 + random.nextInt(5000) : null, dueDate, createdAt, updatedAt, acknowledgedAt,
+                    resolvedAt, closedAt, slaBreached, timeToAcknowledge, timeToResolve});
+
+            for (String tag : distinct(random, TAGS, random.nextInt(4))) {
+                tags.add(new Object[] {id, tag});
+            }
+            for (String system : distinct(random, SYSTEMS, 1 + random.nextInt(2))) {
+                systems.add(new Object[] {id, system});
+            }
+
+            events.add(event(random, id, TimelineEventType.CREATED, "Incident created: " + number, null, null,
+                    ownerId, createdAt));
+            if (acknowledgedAt != null) {
+                List<Engineer> candidates = engineersByCategory.getOrDefault(category, engineers);
+                Set<Engineer> chosen = new LinkedHashSet<>();
+                int assigneeCount = 1 + random.nextInt(priority == Priority.CRITICAL ? 3 : 2);
+                for (int a = 0; a < assigneeCount; a++) {
+                    chosen.add(candidates.get(random.nextInt(candidates.size())));
+                }
+                String names = chosen.stream().map(Engineer::name).reduce((a, b) -> a + ", " + b).orElse("");
+                for (Engineer engineer : chosen) {
+                    assignees.add(new Object[] {id, engineer.id()});
+                }
+                events.add(event(random, id, TimelineEventType.ASSIGNED, "Assigned to: " + names, null, names,
+                        ownerId, acknowledgedAt));
+            }
+
+            // Geometric number of comments with the configured mean, spread over the open period
+            LocalDateTime lastActivity = Objects.requireNonNullElse(resolvedAt, now);
+            long openMinutes = Math.max(1, Duration.between(createdAt, lastActivity).toMinutes());
+            int commentCount = commentsPerIncident > 0 ? geometric(random, commentsPerIncident) : 0;
+            for (int c = 0; c < commentCount; c++) {
+                LocalDateTime at = createdAt.plusMinutes((long) (random.nextDouble() * openMinutes));
+                comments.add(new Object[] {uuid(random), id, ownerId, pick(random, COMMENTS),
+                        random.nextInt(4) == 0, at, at});
+                events.add(event(random, id, TimelineEventType.COMMENT_ADDED, "Comment added", null, null,
+                        ownerId, at));
+            }
+            if (resolvedAt != null) {
+                events.add(event(random, id, TimelineEventType.RESOLVED, "Incident resolved", "in_progress",
+                        "resolved", ownerId, resolvedAt));
+            }
+            if (closedAt != null) {
+                events.add(event(random, id, TimelineEventType.CLOSED, "Incident closed", "resolved", "closed",
+                        ownerId, closedAt));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INCIDENT_SQL, incidents);
+        jdbcTemplate.batchUpdate(TAG_SQL, tags);
+        jdbcTemplate.batchUpdate(SYSTEM_SQL, systems);
+        jdbcTemplate.batchUpdate(ASSIGNEE_SQL, assignees);
+        jdbcTemplate.batchUpdate(COMMENT_SQL, comments);
+        jdbcTemplate.batchUpdate(TIMELINE_SQL, events);
+        return new long[] {comments.size(), events.size()};
+    }
+
+    /** Numbers continue after the highest one already stored for the year, like the allocators. */
+    private String nextNumber(int year) {
+        long sequence = lastSequence.computeIfAbsent(year,
+                y -> IncidentNumberAllocator.maxSequence(incidentRepository, y)) + 1;
+        lastSequence.put(year, sequence);
+        return IncidentNumberAllocator.format(year, sequence);
+    }
+
+    /** Mostly weekdays and office hours, slightly denser towards the present. */
+    private LocalDateTime creationTime(Random random, LocalDateTime now) {
+        long historyMinutes = history.toMinutes();
+        LocalDateTime day;
+        do {
+            day = now.minusMinutes((long) (historyMinutes * Math.pow(random.nextDouble(), 1.3)));
+        } while (day.getDayOfWeek().getValue() >= 6 && random.nextInt(3) != 0);
+        int hour = random.nextInt(10) < 7 ? 8 + random.nextInt(10) : random.nextInt(24);
+        LocalDateTime createdAt = day.toLocalDate().atTime(hour, random.nextInt(60), random.nextInt(60));
+        return createdAt.isAfter(now) ? now.minusMinutes(1 + random.nextInt(60)) : createdAt;
+    }
+
+    private static Object[] event(Random random, UUID incidentId, TimelineEventType type, String description,
+            String previousValue, String newValue, UUID actorId, LocalDateTime timestamp) {
+        return new Object[] {uuid(random), incidentId, type.name(), description, previousValue, newValue,
+                actorId, timestamp};
+    }
+
+    /** A random (version 4) UUID drawn from the seeded generator, so ids are reproducible too. */
+    private static UUID uuid(Random random) {
+        long most = random.nextLong() & ~0xF000L | 0x4000L;
+        long least = random.nextLong() & ~(0xC000L << 48) | (0x8000L << 48);
+        return new UUID(most, least);
+    }
+
+    private static String ownerEmail(int i) {
+        return "owner" + (i + 1) + EMAIL_DOMAIN;
+    }
+
+    private static int weighted(Random random, int[] cumulativeWeights) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    /** Log-normal around {@code median}: most values close to it, a few many times larger. */
+    private static long longTail(Random random, int median) {
+        return Math.round(median * Math.exp(random.nextGaussian() * 0.9));
+    }
+
+    private static int geometric(Random random, int mean) {
+        double p = 1.0 / (mean + 1);
+        return (int) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    private static int minutes(LocalDateTime from, LocalDateTime to) {
+        return (int) Duration.between(from, to).toMinutes();
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static List<String> distinct(Random random, String[] values, int count) {
+        List<String> shuffled = new ArrayList<>(List.of(values));
+        Collections.shuffle(shuffled, random);
+        return shuffled.subList(0, Math.min(count, values.length));
+    }
+}
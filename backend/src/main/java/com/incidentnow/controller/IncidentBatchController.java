@@ -0,0 +1,46 @@
+package com.incidentnow.controller;
+
+import com.incidentnow.dto.IncidentBatchCreateDTO;
+import com.incidentnow.dto.IncidentBatchResultDTO;
+import com.incidentnow.dto.IncidentPurgeDTO;
+import com.incidentnow.dto.IncidentPurgeResultDTO;
+import com.incidentnow.service.IncidentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Custom-method style collection endpoints ({@code /incidents:batch}, {@code /incidents:purge}). Kept apart from
+ * {@link IncidentController} because its {@code /incidents} prefix would turn the path into
+ * {@code /incidents/:batch}.
+ */
+@RestController
+@RequiredArgsConstructor
+public class IncidentBatchController {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentBatchController.class);
+
+    private final IncidentService incidentService;
+
+    @PostMapping("/incidents:batch")
+    public ResponseEntity<IncidentBatchResultDTO> createIncidents(@Valid @RequestBody IncidentBatchCreateDTO dto) {
+        log.info("POST /incidents:batch - items: {}", dto.incidents().size());
+        IncidentBatchResultDTO result = incidentService.createIncidents(dto.incidents());
+        log.info("POST /incidents:batch - created: {}, failed: {}", result.created(), result.failed());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/incidents:purge")
+    public ResponseEntity<IncidentPurgeResultDTO> purgeIncidents(@Valid @RequestBody IncidentPurgeDTO dto) {
+        log.info("POST /incidents:purge - ids: {}, closedBefore: {}",
+                dto.incidentIds() != null ? dto.incidentIds().size() : null, dto.closedBefore());
+        IncidentPurgeResultDTO result = incidentService.purgeIncidents(dto);
+        log.info("POST /incidents:purge - purged: {}", result.purged());
+        return ResponseEntity.ok(result);
+    }
+}
@@ -1,16 +1,27 @@
 package com.incidentnow.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.incidentnow.dto.*;
+import com.incidentnow.exception.ResourceNotFoundException;
 import com.incidentnow.model.*;
+import com.incidentnow.service.IncidentSearchService;
 import com.incidentnow.service.IncidentService;
+import com.incidentnow.service.IncidentStreamService;
+import com.incidentnow.service.TimelineArchiveService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +35,10 @@ public class IncidentController {
     private static final Logger log = LoggerFactory.getLogger(IncidentController.class);
 
     private final IncidentService incidentService;
+    private final IncidentSearchService incidentSearchService;
+    private final TimelineArchiveService timelineArchiveService;
+    private final IncidentStreamService incidentStreamService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     public ResponseEntity<PagedResponseDTO<IncidentResponseDTO>> listIncidents(
@@ -54,6 +69,138 @@ public class IncidentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = { "view=compact", "pagination!=cursor" })
+    public ResponseEntity<PagedResponseDTO<IncidentListItemDTO>> listIncidentItems(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int pageSize,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortOrder,
+            @RequestParam(required = false) IncidentStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Severity severity,
+            @RequestParam(required = false) IncidentCategory category,
+            @RequestParam(required = false) UUID ownerId,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) LocalDateTime createdAfter,
+            @RequestParam(required = false) LocalDateTime createdBefore,
+            @RequestParam(required = false) LocalDateTime resolvedAfter,
+            @RequestParam(required = false) LocalDateTime resolvedBefore,
+            @RequestParam(required = false) Boolean hasGithubRepo,
+            @RequestParam(required = false) String search) {
+        log.info("GET /incidents (compact) - page: {}, pageSize: {}, status: {}, priority: {}, search: {}",
+                page, pageSize, status, priority, search);
+        PagedResponseDTO<IncidentListItemDTO> response = incidentService.listIncidentItems(
+                page, pageSize, sortBy, sortOrder, status, priority, severity,
+                category, ownerId, assigneeId, tags, createdAfter, createdBefore,
+                resolvedAfter, resolvedBefore, hasGithubRepo, search);
+        log.info("GET /incidents (compact) - returned {} incidents", response.data().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = "pagination=cursor")
+    public ResponseEntity<CursorPagedResponseDTO<IncidentResponseDTO>> listIncidentsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int pageSize,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortOrder,
+            @RequestParam(required = false) IncidentStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Severity severity,
+            @RequestParam(required = false) IncidentCategory category,
+            @RequestParam(required = false) UUID ownerId,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) LocalDateTime createdAfter,
+            @RequestParam(required = false) LocalDateTime createdBefore,
+            @RequestParam(required = false) LocalDateTime resolvedAfter,
+            @RequestParam(required = false) LocalDateTime resolvedBefore,
+            @RequestParam(required = false) Boolean hasGithubRepo,
+            @RequestParam(required = false) String search) {
+        log.info("GET /incidents (cursor) - pageSize: {}, status: {}, priority: {}, search: {}",
+                pageSize, status, priority, search);
+        CursorPagedResponseDTO<IncidentResponseDTO> response = incidentService.listIncidentsByCursor(
+                cursor, pageSize, sortBy, sortOrder, status, priority, severity,
+                category, ownerId, assigneeId, tags, createdAfter, createdBefore,
+                resolvedAfter, resolvedBefore, hasGithubRepo, search);
+        log.info("GET /incidents (cursor) - returned {} incidents, hasNextPage: {}",
+                response.data().size(), response.pagination().hasNextPage());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = { "view=compact", "pagination=cursor" })
+    public ResponseEntity<CursorPagedResponseDTO<IncidentListItemDTO>> listIncidentItemsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int pageSize,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortOrder,
+            @RequestParam(required = false) IncidentStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Severity severity,
+            @RequestParam(required = false) IncidentCategory category,
+            @RequestParam(required = false) UUID ownerId,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) LocalDateTime createdAfter,
+            @RequestParam(required = false) LocalDateTime createdBefore,
+            @RequestParam(required = false) LocalDateTime resolvedAfter,
+            @RequestParam(required = false) LocalDateTime resolvedBefore,
+            @RequestParam(required = false) Boolean hasGithubRepo,
+            @RequestParam(required = false) String search) {
+        log.info("GET /incidents (compact, cursor) - pageSize: {}, status: {}, priority: {}, search: {}",
+                pageSize, status, priority, search);
+        CursorPagedResponseDTO<IncidentListItemDTO> response = incidentService.listIncidentItemsByCursor(
+                cursor, pageSize, sortBy, sortOrder, status, priority, severity,
+                category, ownerId, assigneeId, tags, createdAfter, createdBefore,
+                resolvedAfter, resolvedBefore, hasGithubRepo, search);
+        log.info("GET /incidents (compact, cursor) - returned {} incidents, hasNextPage: {}",
+                response.data().size(), response.pagination().hasNextPage());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIncidentChanges(
+            @RequestParam(required = false) IncidentStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) IncidentCategory category,
+            @RequestParam(required = false) UUID ownerId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("GET /incidents/stream - status: {}, priority: {}, category: {}, ownerId: {}, resume: {}",
+                status, priority, category, ownerId, lastEventId != null);
+        return incidentStreamService.subscribe(
+                new IncidentStreamService.Filter(status, priority, category, ownerId), lastEventId);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PagedResponseDTO<IncidentSearchHitDTO>> searchIncidents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int pageSize,
+            @RequestParam(required = false) IncidentStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) IncidentCategory category,
+            @RequestParam(required = false) UUID ownerId) {
+        log.info("GET /incidents/search - q: {}, page: {}, pageSize: {}, status: {}", q, page, pageSize, status);
+        PagedResponseDTO<IncidentSearchHitDTO> response = incidentSearchService.search(q, page, pageSize,
+                status, priority, category, ownerId);
+        log.info("GET /incidents/search - returned {} of {} hits", response.data().size(),
+                response.pagination().totalItems());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/search/index")
+    public ResponseEntity<SearchIndexStatusDTO> getSearchIndexStatus() {
+        log.info("GET /incidents/search/index");
+        return ResponseEntity.ok(incidentSearchService.getIndexStatus());
+    }
+
+    @PostMapping("/search/reindex")
+    public ResponseEntity<SearchIndexStatusDTO> rebuildSearchIndex() {
+        log.info("POST /incidents/search/reindex");
+        SearchIndexStatusDTO response = incidentSearchService.rebuildIndex();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
     @GetMapping("/{incidentId}")
     public ResponseEntity<IncidentResponseDTO> getIncidentById(@PathVariable UUID incidentId) {
         log.info("GET /incidents/{}", incidentId);
@@ -168,6 +315,15 @@ public class IncidentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/timeline/archive")
+    public ResponseEntity<TimelineArchiveResultDTO> archiveTimelines() {
+        log.info("POST /incidents/timeline/archive");
+        TimelineArchiveResultDTO response = timelineArchiveService.archive();
+        log.info("POST /incidents/timeline/archive - {} events into {} archives", response.eventsArchived(),
+                response.archivesCreated());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{incidentId}/timeline")
     public ResponseEntity<List<TimelineEventDTO>> getIncidentTimeline(@PathVariable UUID incidentId) {
         log.info("GET /incidents/{}/timeline", incidentId);
@@ -175,4 +331,49 @@ public class IncidentController {
         log.info("GET /incidents/{}/timeline - returned {} events", incidentId, timeline.size());
         return ResponseEntity.ok(timeline);
     }
+
+    @GetMapping(value = "/{incidentId}/timeline", params = "pagination=cursor")
+    public ResponseEntity<CursorPagedResponseDTO<TimelineEventDTO>> getIncidentTimelineByCursor(
+            @PathVariable UUID incidentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int pageSize) {
+        log.info("GET /incidents/{}/timeline (cursor) - pageSize: {}", incidentId, pageSize);
+        CursorPagedResponseDTO<TimelineEventDTO> response = incidentService.getIncidentTimelineByCursor(
+                incidentId, cursor, pageSize);
+        log.info("GET /incidents/{}/timeline (cursor) - returned {} events", incidentId, response.data().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/{incidentId}/timeline", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamIncidentTimeline(@PathVariable UUID incidentId)
+            throws JsonProcessingException {
+        log.info("GET /incidents/{}/timeline (ndjson)", incidentId);
+        try {
+            incidentService.assertIncidentExists(incidentId);
+        } catch (ResourceNotFoundException e) {
+            // The client only accepts NDJSON, so the error goes out as a single NDJSON record
+            log.warn("Resource not found: {}", e.getMessage());
+            byte[] error = objectMapper.writeValueAsBytes(ErrorDTO.of("NOT_FOUND", e.getMessage()));
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_NDJSON)
+                    .body(out -> {
+                        out.write(error);
+                        out.write('\n');
+                    });
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                incidentService.streamIncidentTimeline(incidentId, event -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(event));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
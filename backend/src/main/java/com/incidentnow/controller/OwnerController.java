@@ -107,4 +107,17 @@ public class OwnerController {
         log.info("GET /owners/{}/incidents - returned {} incidents", ownerId, response.data().size());
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping(value = "/{ownerId}/incidents", params = "view=compact")
+    public ResponseEntity<PagedResponseDTO<IncidentListItemDTO>> getOwnerIncidentItems(
+            @PathVariable UUID ownerId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int pageSize,
+            @RequestParam(required = false) IncidentStatus status) {
+        log.info("GET /owners/{}/incidents (compact) - page: {}, status: {}", ownerId, page, status);
+        PagedResponseDTO<IncidentListItemDTO> response = incidentService.getOwnerIncidentItems(ownerId, page,
+                pageSize, status);
+        log.info("GET /owners/{}/incidents (compact) - returned {} incidents", ownerId, response.data().size());
+        return ResponseEntity.ok(response);
+    }
 }
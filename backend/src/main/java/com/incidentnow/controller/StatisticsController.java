@@ -1,6 +1,7 @@
 package com.incidentnow.controller;
 
 import com.incidentnow.dto.*;
+import com.incidentnow.service.IncidentRollupService;
 import com.incidentnow.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -19,6 +20,7 @@ public class StatisticsController {
     private static final Logger log = LoggerFactory.getLogger(StatisticsController.class);
 
     private final StatisticsService statisticsService;
+    private final IncidentRollupService incidentRollupService;
 
     @GetMapping("/summary")
     public ResponseEntity<IncidentSummaryDTO> getIncidentSummary(
@@ -84,4 +86,13 @@ public class StatisticsController {
         log.info("GET /statistics/trends - returned {} periods", response.size());
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<RollupRebuildDTO> rebuildRollups() {
+        log.info("POST /statistics/rollups/rebuild");
+        RollupRebuildDTO response = incidentRollupService.rebuild();
+        log.info("POST /statistics/rollups/rebuild - {} rows from {} incidents", response.rollupRows(),
+                response.incidentsProcessed());
+        return ResponseEntity.ok(response);
+    }
 }
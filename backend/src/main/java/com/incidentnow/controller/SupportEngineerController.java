@@ -106,4 +106,17 @@ public class SupportEngineerController {
         log.info("GET /support-engineers/{}/assigned-incidents - returned {}", id, response.data().size());
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping(value = "/{id}/assigned-incidents", params = "view=compact")
+    public ResponseEntity<PagedResponseDTO<IncidentListItemDTO>> getAssignedIncidentItems(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int pageSize,
+            @RequestParam(required = false) IncidentStatus status) {
+        log.info("GET /support-engineers/{}/assigned-incidents (compact) - page: {}, status: {}", id, page, status);
+        PagedResponseDTO<IncidentListItemDTO> response = incidentService.getSupportEngineerAssignedIncidentItems(id,
+                page, pageSize, status);
+        log.info("GET /support-engineers/{}/assigned-incidents (compact) - returned {}", id, response.data().size());
+        return ResponseEntity.ok(response);
+    }
 }
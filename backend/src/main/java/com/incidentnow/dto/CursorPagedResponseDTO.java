@@ -0,0 +1,8 @@
+package com.incidentnow.dto;
+
+import java.util.List;
+
+public record CursorPagedResponseDTO<T>(
+        List<T> data,
+        CursorPaginationDTO pagination) {
+}
@@ -0,0 +1,10 @@
+package com.incidentnow.dto;
+
+public record CursorPaginationDTO(
+        int pageSize,
+        boolean hasNextPage,
+        String nextCursor) {
+    public static CursorPaginationDTO of(int pageSize, String nextCursor) {
+        return new CursorPaginationDTO(pageSize, nextCursor != null, nextCursor);
+    }
+}
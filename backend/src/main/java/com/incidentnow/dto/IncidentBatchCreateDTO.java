@@ -0,0 +1,13 @@
+package com.incidentnow.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Items are validated one by one so that an invalid item only fails itself.
+ */
+public record IncidentBatchCreateDTO(
+        @NotEmpty(message = "At least one incident is required") @Size(max = 500, message = "A batch may contain at most 500 incidents") List<IncidentCreateDTO> incidents) {
+}
@@ -0,0 +1,19 @@
+package com.incidentnow.dto;
+
+import java.util.UUID;
+
+public record IncidentBatchItemResultDTO(
+        int index,
+        String status,
+        UUID id,
+        String incidentNumber,
+        ErrorDTO error) {
+
+    public static IncidentBatchItemResultDTO created(int index, UUID id, String incidentNumber) {
+        return new IncidentBatchItemResultDTO(index, "created", id, incidentNumber, null);
+    }
+
+    public static IncidentBatchItemResultDTO failed(int index, ErrorDTO error) {
+        return new IncidentBatchItemResultDTO(index, "failed", null, null, error);
+    }
+}
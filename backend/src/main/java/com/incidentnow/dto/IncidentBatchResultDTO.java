@@ -0,0 +1,10 @@
+package com.incidentnow.dto;
+
+import java.util.List;
+
+public record IncidentBatchResultDTO(
+        int total,
+        int created,
+        int failed,
+        List<IncidentBatchItemResultDTO> results) {
+}
@@ -0,0 +1,23 @@
+package com.incidentnow.dto;
+
+import com.incidentnow.model.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record IncidentListItemDTO(
+        UUID id,
+        String incidentNumber,
+        String title,
+        IncidentStatus status,
+        Priority priority,
+        Severity severity,
+        IncidentCategory category,
+        UUID ownerId,
+        String ownerName,
+        LocalDateTime dueDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime resolvedAt,
+        boolean slaBreached) {
+}
@@ -0,0 +1,15 @@
+package com.incidentnow.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Exactly one of {@code incidentIds} or {@code closedBefore} must be given.
+ */
+public record IncidentPurgeDTO(
+        @Size(max = 1000, message = "At most 1000 incidents can be purged by id at once") List<UUID> incidentIds,
+        LocalDateTime closedBefore) {
+}
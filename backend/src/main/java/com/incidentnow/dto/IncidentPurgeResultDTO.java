@@ -0,0 +1,9 @@
+package com.incidentnow.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record IncidentPurgeResultDTO(
+        int purged,
+        List<UUID> notFound) {
+}
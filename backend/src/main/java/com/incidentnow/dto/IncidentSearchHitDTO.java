@@ -0,0 +1,9 @@
+package com.incidentnow.dto;
+
+import java.util.Map;
+
+public record IncidentSearchHitDTO(
+        IncidentListItemDTO incident,
+        float score,
+        Map<String, String> highlights) {
+}
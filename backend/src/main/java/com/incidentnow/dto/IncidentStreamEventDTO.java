@@ -0,0 +1,17 @@
+package com.incidentnow.dto;
+
+import com.incidentnow.model.TimelineEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record IncidentStreamEventDTO(
+        UUID eventId,
+        TimelineEventType eventType,
+        String description,
+        String previousValue,
+        String newValue,
+        UUID actorId,
+        LocalDateTime timestamp,
+        IncidentListItemDTO incident) {
+}
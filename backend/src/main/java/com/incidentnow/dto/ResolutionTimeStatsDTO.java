@@ -8,6 +8,8 @@ public record ResolutionTimeStatsDTO(
         Integer minMinutes,
         Integer maxMinutes,
         Double percentile90Minutes,
+        Double percentile95Minutes,
+        Double percentile99Minutes,
         List<PeriodData> data) {
     public record PeriodData(String period, Double averageMinutes, long count) {
     }
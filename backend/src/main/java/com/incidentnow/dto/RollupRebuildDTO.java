@@ -0,0 +1,7 @@
+package com.incidentnow.dto;
+
+public record RollupRebuildDTO(
+        long incidentsProcessed,
+        long rollupRows,
+        long durationMillis) {
+}
@@ -0,0 +1,11 @@
+package com.incidentnow.dto;
+
+import java.time.LocalDateTime;
+
+public record SearchIndexStatusDTO(
+        long indexedIncidents,
+        int pendingUpdates,
+        boolean rebuildInProgress,
+        LocalDateTime lastRebuildAt,
+        Long lastRebuildMillis) {
+}
@@ -0,0 +1,11 @@
+package com.incidentnow.dto;
+
+import java.time.LocalDateTime;
+
+public record TimelineArchiveResultDTO(
+        LocalDateTime cutoff,
+        long incidentsProcessed,
+        long archivesCreated,
+        long eventsArchived,
+        long durationMillis) {
+}
@@ -3,6 +3,7 @@ package com.incidentnow.entity;
 import com.incidentnow.model.*;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,7 +11,14 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
-@Table(name = "incidents")
+@Table(name = "incidents", indexes = {
+        @Index(name = "idx_incidents_github_repo", columnList = "github_repo_owner, github_repo_name")
+})
+@NamedEntityGraph(name = Incident.GRAPH_LIST, attributeNodes = @NamedAttributeNode("owner"))
+@NamedEntityGraph(name = Incident.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("owner"),
+        @NamedAttributeNode("assignees")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,6 +26,12 @@ import java.util.*;
 @Builder
 public class Incident {
 
+    /** Owner only; collections of a page are loaded in batches. */
+    public static final String GRAPH_LIST = "Incident.list";
+
+    /** Owner and assignees for a single incident. */
+    public static final String GRAPH_DETAIL = "Incident.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -48,13 +62,17 @@ public class Incident {
     @Column(nullable = false)
     private IncidentCategory category;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "incident_tags", joinColumns = @JoinColumn(name = "incident_id"))
+    @ElementCollection
+    @BatchSize(size = 100)
+    @CollectionTable(name = "incident_tags", joinColumns = @JoinColumn(name = "incident_id"), indexes = {
+            @Index(name = "idx_incident_tags_tag", columnList = "tag, incident_id")
+    })
     @Column(name = "tag")
     @Builder.Default
     private List<String> tags = new ArrayList<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "incident_affected_systems", joinColumns = @JoinColumn(name = "incident_id"))
     @Column(name = "system_name")
     @Builder.Default
@@ -62,12 +80,15 @@ public class Incident {
 
     private Integer affectedUsers;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private Owner owner;
 
-    @ManyToMany(fetch = FetchType.EAGER)
-    @JoinTable(name = "incident_assignees", joinColumns = @JoinColumn(name = "incident_id"), inverseJoinColumns = @JoinColumn(name = "support_engineer_id"))
+    @ManyToMany
+    @BatchSize(size = 100)
+    @JoinTable(name = "incident_assignees", joinColumns = @JoinColumn(name = "incident_id"), inverseJoinColumns = @JoinColumn(name = "support_engineer_id"), indexes = {
+            @Index(name = "idx_incident_assignees_engineer", columnList = "support_engineer_id, incident_id")
+    })
     @Builder.Default
     private Set<SupportEngineer> assignees = new HashSet<>();
 
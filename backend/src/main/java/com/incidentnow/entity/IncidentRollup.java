@@ -0,0 +1,25 @@
+package com.incidentnow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "incident_rollups", indexes = {
+        @Index(name = "idx_incident_rollups_metric_bucket", columnList = "granularity, metric, bucket_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IncidentRollup {
+
+    @EmbeddedId
+    private IncidentRollupId id;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    @Column(name = "total_minutes", nullable = false)
+    private long totalMinutes;
+}
@@ -0,0 +1,32 @@
+package com.incidentnow.entity;
+
+import com.incidentnow.model.RollupGranularity;
+import com.incidentnow.model.RollupMetric;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class IncidentRollupId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 16)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 32)
+    private RollupMetric metric;
+
+    @Column(name = "dimension_value", nullable = false, length = 64)
+    private String dimensionValue;
+}
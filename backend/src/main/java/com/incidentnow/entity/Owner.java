@@ -3,6 +3,8 @@ package com.incidentnow.entity;
 import com.incidentnow.model.OwnerRole;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,8 +18,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Owner.CACHE_REGION)
 public class Owner {
 
+    public static final String CACHE_REGION = "owners";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -3,6 +3,9 @@ package com.incidentnow.entity;
 import com.incidentnow.model.IncidentCategory;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,8 +20,14 @@ import java.util.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SupportEngineer.CACHE_REGION)
+@BatchSize(size = 100)
 public class SupportEngineer {
 
+    public static final String CACHE_REGION = "support-engineers";
+    public static final String CATEGORIES_CACHE_REGION = "support-engineer-categories";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -51,7 +60,9 @@ public class SupportEngineer {
 
     private LocalTime workingHoursEnd;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SupportEngineer.CATEGORIES_CACHE_REGION)
     @CollectionTable(name = "support_engineer_categories", joinColumns = @JoinColumn(name = "support_engineer_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "category")
@@ -0,0 +1,52 @@
+package com.incidentnow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One month of an incident's timeline, moved out of {@code timeline_events} by the retention job.
+ */
+@Entity
+@Table(name = "timeline_archives", indexes = {
+        @Index(name = "idx_timeline_archives_incident_period", columnList = "incident_id, period_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimelineArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "incident_id", nullable = false)
+    private Incident incident;
+
+    @Column(nullable = false)
+    private LocalDateTime periodStart;
+
+    @Column(nullable = false)
+    private int eventCount;
+
+    @Column(nullable = false)
+    private LocalDateTime firstTimestamp;
+
+    @Column(nullable = false)
+    private LocalDateTime lastTimestamp;
+
+    /** GZIP-compressed JSON array of the archived events. */
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "timeline_events")
+@Table(name = "timeline_events", indexes = {
+        @Index(name = "idx_timeline_events_incident_ts", columnList = "incident_id, timestamp"),
+        @Index(name = "idx_timeline_events_ts", columnList = "timestamp, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,7 +38,7 @@ public class TimelineEvent {
 
     private String newValue;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "actor_id")
     private Owner actor;
 
@@ -0,0 +1,50 @@
+package com.incidentnow.exception;
+
+import com.incidentnow.dto.ErrorDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reports every unknown assignee and every category mismatch of an assignment at once.
+ * Maps to 404 when assignees are only missing and to 409 as soon as there is a conflict.
+ */
+public class AssigneeValidationException extends RuntimeException {
+
+    private final List<UUID> missingIds;
+    private final List<String> conflicts;
+
+    public AssigneeValidationException(List<UUID> missingIds, List<String> conflicts) {
+        super(buildMessage(missingIds, conflicts));
+        this.missingIds = List.copyOf(missingIds);
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    public boolean isConflict() {
+        return !conflicts.isEmpty();
+    }
+
+    public ErrorDTO toErrorDTO() {
+        String code = isConflict() ? "CONFLICT" : "NOT_FOUND";
+        if (missingIds.size() + conflicts.size() == 1) {
+            return ErrorDTO.of(code, getMessage());
+        }
+        List<ErrorDTO.FieldError> details = new ArrayList<>();
+        missingIds.forEach(id -> details.add(
+                new ErrorDTO.FieldError("assigneeIds", "SupportEngineer not found with id: " + id)));
+        conflicts.forEach(conflict -> details.add(new ErrorDTO.FieldError("assigneeIds", conflict)));
+        return ErrorDTO.of(code, getMessage(), details);
+    }
+
+    private static String buildMessage(List<UUID> missingIds, List<String> conflicts) {
+        if (missingIds.size() == 1 && conflicts.isEmpty()) {
+            return "SupportEngineer not found with id: " + missingIds.get(0);
+        }
+        if (missingIds.isEmpty() && conflicts.size() == 1) {
+            return conflicts.get(0);
+        }
+        return "Invalid assignees: " + missingIds.size() + " not found, " + conflicts.size()
+                + " cannot handle the incident category";
+    }
+}
@@ -1,6 +1,8 @@
 package com.incidentnow.exception;
 
 import com.incidentnow.dto.ErrorDTO;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -8,8 +10,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestControllerAdvice
@@ -31,6 +35,13 @@ public class GlobalExceptionHandler {
                 .body(ErrorDTO.of("CONFLICT", ex.getMessage()));
     }
 
+    @ExceptionHandler(AssigneeValidationException.class)
+    public ResponseEntity<ErrorDTO> handleInvalidAssignees(AssigneeValidationException ex) {
+        log.warn("Invalid assignees: {}", ex.getMessage());
+        return ResponseEntity.status(ex.isConflict() ? HttpStatus.CONFLICT : HttpStatus.NOT_FOUND)
+                .body(ex.toErrorDTO());
+    }
+
     @ExceptionHandler(DuplicateResourceException.class)
     public ResponseEntity<ErrorDTO> handleDuplicate(DuplicateResourceException ex) {
         log.warn("Duplicate resource: {}", ex.getMessage());
@@ -63,6 +74,21 @@ public class GlobalExceptionHandler {
                 .body(ErrorDTO.of("BAD_REQUEST", ex.getMessage()));
     }
 
+    /** A streaming client went away; there is nobody left to send an error to. */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleAsyncRequestNotUsable(AsyncRequestNotUsableException ex) {
+        log.debug("Client disconnected: {}", ex.getMessage());
+    }
+
+    @ExceptionHandler(IOException.class)
+    public ResponseEntity<ErrorDTO> handleIo(IOException ex, HttpServletRequest request) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            log.debug("Client disconnected: {}", ex.getMessage());
+            return null;
+        }
+        return handleGeneral(ex);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorDTO> handleGeneral(Exception ex) {
         log.error("Unexpected error", ex);
@@ -0,0 +1,16 @@
+package com.incidentnow.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularity {
+    HOUR,
+    DAY;
+
+    public LocalDateTime bucketOf(LocalDateTime timestamp) {
+        return switch (this) {
+            case HOUR -> timestamp.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> timestamp.truncatedTo(ChronoUnit.DAYS);
+        };
+    }
+}
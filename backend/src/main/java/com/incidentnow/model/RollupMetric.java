@@ -0,0 +1,25 @@
+package com.incidentnow.model;
+
+/**
+ * Counters kept in the incident rollup tables.
+ * <p>
+ * Cohort metrics are bucketed by the incident's creation time and describe the current state
+ * of the incidents created in that bucket. Event metrics are bucketed by the time the event
+ * happened.
+ */
+public enum RollupMetric {
+    // Cohort metrics (bucketed by createdAt)
+    STATUS,
+    PRIORITY,
+    CATEGORY,
+    OWNER,
+    OWNER_STATUS,
+    SLA_BREACHED,
+    RESOLUTION_TIME,
+    ACKNOWLEDGE_TIME,
+
+    // Event metrics (bucketed by event time)
+    CREATED,
+    RESOLVED,
+    CLOSED
+}
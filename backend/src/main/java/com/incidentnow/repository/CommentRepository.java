@@ -4,12 +4,28 @@ import com.incidentnow.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
 
     Page<Comment> findByIncidentIdOrderByCreatedAtDesc(UUID incidentId, Pageable pageable);
+
+    @Query("SELECT new com.incidentnow.repository.IncidentTextRow(c.incident.id, c.content) FROM Comment c WHERE c.incident.id IN :ids")
+    List<IncidentTextRow> findContentByIncidentIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.incident.id = :incidentId")
+    int deleteByIncidentId(@Param("incidentId") UUID incidentId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.incident.id IN :incidentIds")
+    int deleteByIncidentIdIn(@Param("incidentIds") Collection<UUID> incidentIds);
 }
@@ -0,0 +1,19 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.dto.IncidentListItemDTO;
+import com.incidentnow.entity.Incident;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Compact list-item projection for dynamically filtered incident lists.
+ */
+public interface IncidentListItemQueries {
+
+    Page<IncidentListItemDTO> findListItems(Specification<Incident> spec, Pageable pageable);
+
+    /** Like {@link #findListItems} without the count query, for keyset pagination. */
+    Slice<IncidentListItemDTO> findListItemSlice(Specification<Incident> spec, Pageable pageable);
+}
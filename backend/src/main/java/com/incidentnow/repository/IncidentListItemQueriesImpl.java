@@ -0,0 +1,68 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.dto.IncidentListItemDTO;
+import com.incidentnow.entity.Incident;
+import com.incidentnow.entity.Owner;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+class IncidentListItemQueriesImpl implements IncidentListItemQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<IncidentListItemDTO> findListItems(Specification<Incident> spec, Pageable pageable) {
+        List<IncidentListItemDTO> content = select(spec, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<IncidentListItemDTO> findListItemSlice(Specification<Incident> spec, Pageable pageable) {
+        // One row past the page tells whether there is a next one
+        List<IncidentListItemDTO> content = select(spec, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private List<IncidentListItemDTO> select(Specification<Incident> spec, Pageable pageable, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<IncidentListItemDTO> query = cb.createQuery(IncidentListItemDTO.class);
+        Root<Incident> root = query.from(Incident.class);
+        Join<Incident, Owner> owner = root.join("owner");
+
+        query.select(cb.construct(IncidentListItemDTO.class,
+                root.get("id"), root.get("incidentNumber"), root.get("title"), root.get("status"),
+                root.get("priority"), root.get("severity"), root.get("category"),
+                owner.get("id"), owner.get("name"), root.get("dueDate"), root.get("createdAt"),
+                root.get("updatedAt"), root.get("resolvedAt"), root.get("slaBreached")));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+    private long count(Specification<Incident> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Incident> root = query.from(Incident.class);
+        query.select(cb.count(root)).where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,100 +1,169 @@
 package com.incidentnow.repository;
 
+import com.incidentnow.dto.IncidentListItemDTO;
 import com.incidentnow.entity.Incident;
 import com.incidentnow.model.*;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface IncidentRepository extends JpaRepository<Incident, UUID> {
+public interface IncidentRepository extends JpaRepository<Incident, UUID>, JpaSpecificationExecutor<Incident>,
+                IncidentListItemQueries {
+
+        String LIST_ITEM_SELECT = """
+                        SELECT new com.incidentnow.dto.IncidentListItemDTO(
+                            i.id, i.incidentNumber, i.title, i.status, i.priority, i.severity, i.category,
+                            o.id, o.name, i.dueDate, i.createdAt, i.updatedAt, i.resolvedAt, i.slaBreached)
+                        """;
+
+        @EntityGraph(Incident.GRAPH_DETAIL)
+        Optional<Incident> findDetailedById(UUID id);
+
+        // Locks only the incident rows, until commit; the joined owner and assignee rows stay unlocked
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT i.id FROM Incident i WHERE i.id = :id")
+        Optional<UUID> lockById(@Param("id") UUID id);
+
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT i.id FROM Incident i WHERE i.id IN :ids")
+        List<UUID> lockByIdIn(@Param("ids") Collection<UUID> ids);
+
+        @Override
+        @EntityGraph(Incident.GRAPH_LIST)
+        Page<Incident> findAll(Specification<Incident> spec, Pageable pageable);
+
+        @Query(value = LIST_ITEM_SELECT + """
+                        FROM Incident i JOIN i.owner o
+                        WHERE o.id = :ownerId AND (:status IS NULL OR i.status = :status)
+                        """, countQuery = """
+                        SELECT COUNT(i) FROM Incident i
+                        WHERE i.owner.id = :ownerId AND (:status IS NULL OR i.status = :status)
+                        """)
+        Page<IncidentListItemDTO> findListItemsByOwnerId(@Param("ownerId") UUID ownerId,
+                        @Param("status") IncidentStatus status, Pageable pageable);
 
-        @Query("""
-                        SELECT i FROM Incident i
-                        WHERE (:status IS NULL OR i.status = :status)
-                        AND (:priority IS NULL OR i.priority = :priority)
-                        AND (:severity IS NULL OR i.severity = :severity)
-                        AND (:category IS NULL OR i.category = :category)
-                        AND (:ownerId IS NULL OR i.owner.id = :ownerId)
-                        AND (:createdAfter IS NULL OR i.createdAt >= :createdAfter)
-                        AND (:createdBefore IS NULL OR i.createdAt <= :createdBefore)
-                        AND (:resolvedAfter IS NULL OR i.resolvedAt >= :resolvedAfter)
-                        AND (:resolvedBefore IS NULL OR i.resolvedAt <= :resolvedBefore)
-                        AND (:search IS NULL OR LOWER(i.title) LIKE LOWER(CONCAT('%', :search, '%'))
-                             OR LOWER(i.description) LIKE LOWER(CONCAT('%', :search, '%')))
+        @Query(value = LIST_ITEM_SELECT + """
+                        FROM Incident i JOIN i.owner o JOIN i.assignees a
+                        WHERE a.id = :assigneeId AND (:status IS NULL OR i.status = :status)
+                        """, countQuery = """
+                        SELECT COUNT(i) FROM Incident i JOIN i.assignees a
+                        WHERE a.id = :assigneeId AND (:status IS NULL OR i.status = :status)
                         """)
-        Page<Incident> findWithFilters(
-                        @Param("status") IncidentStatus status,
-                        @Param("priority") Priority priority,
-                        @Param("severity") Severity severity,
-                        @Param("category") IncidentCategory category,
-                        @Param("ownerId") UUID ownerId,
-                        @Param("createdAfter") LocalDateTime createdAfter,
-                        @Param("createdBefore") LocalDateTime createdBefore,
-                        @Param("resolvedAfter") LocalDateTime resolvedAfter,
-                        @Param("resolvedBefore") LocalDateTime resolvedBefore,
-                        @Param("search") String search,
-                        Pageable pageable);
+        Page<IncidentListItemDTO> findListItemsByAssigneeId(@Param("assigneeId") UUID assigneeId,
+                        @Param("status") IncidentStatus status, Pageable pageable);
+
+        @Query(LIST_ITEM_SELECT + "FROM Incident i JOIN i.owner o WHERE i.id IN :ids")
+        List<IncidentListItemDTO> findListItemsByIdIn(@Param("ids") Collection<UUID> ids);
 
+        @EntityGraph(Incident.GRAPH_LIST)
         Page<Incident> findByOwnerId(UUID ownerId, Pageable pageable);
 
+        @EntityGraph(Incident.GRAPH_LIST)
         Page<Incident> findByOwnerIdAndStatus(UUID ownerId, IncidentStatus status, Pageable pageable);
 
+        @EntityGraph(Incident.GRAPH_LIST)
         @Query("SELECT i FROM Incident i JOIN i.assignees a WHERE a.id = :assigneeId")
         Page<Incident> findByAssigneeId(@Param("assigneeId") UUID assigneeId, Pageable pageable);
 
+        @EntityGraph(Incident.GRAPH_LIST)
         @Query("SELECT i FROM Incident i JOIN i.assignees a WHERE a.id = :assigneeId AND i.status = :status")
         Page<Incident> findByAssigneeIdAndStatus(@Param("assigneeId") UUID assigneeId,
                         @Param("status") IncidentStatus status, Pageable pageable);
 
-        long countByStatus(IncidentStatus status);
-
-        long countByPriority(Priority priority);
-
-        long countByCategory(IncidentCategory category);
-
-        long countBySlaBreached(boolean slaBreached);
-
-        @Query("SELECT i.status, COUNT(i) FROM Incident i GROUP BY i.status")
-        List<Object[]> countGroupByStatus();
-
-        @Query("SELECT i.priority, COUNT(i) FROM Incident i GROUP BY i.priority")
-        List<Object[]> countGroupByPriority();
-
-        @Query("SELECT i.category, COUNT(i) FROM Incident i GROUP BY i.category")
-        List<Object[]> countGroupByCategory();
+        @Query("""
+                        SELECT new com.incidentnow.repository.ResolutionTimeRow(
+                            COUNT(i.timeToResolve),
+                            AVG(i.timeToResolve),
+                            MIN(i.timeToResolve),
+                            MAX(i.timeToResolve),
+                            CAST(PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY i.timeToResolve) AS Double),
+                            CAST(PERCENTILE_CONT(0.9) WITHIN GROUP (ORDER BY i.timeToResolve) AS Double),
+                            CAST(PERCENTILE_CONT(0.95) WITHIN GROUP (ORDER BY i.timeToResolve) AS Double),
+                            CAST(PERCENTILE_CONT(0.99) WITHIN GROUP (ORDER BY i.timeToResolve) AS Double))
+                        FROM Incident i
+                        WHERE i.timeToResolve IS NOT NULL
+                        AND (:from IS NULL OR i.resolvedAt >= :from)
+                        AND (:to IS NULL OR i.resolvedAt < :to)
+                        """)
+        ResolutionTimeRow resolutionTimeStats(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
-        @Query("SELECT AVG(i.timeToResolve) FROM Incident i WHERE i.timeToResolve IS NOT NULL")
-        Double averageResolutionTime();
+        @Query("""
+                        SELECT new com.incidentnow.repository.IncidentRollupSource(
+                            i.createdAt, i.resolvedAt, i.closedAt, i.status, i.priority, i.category,
+                            i.owner.id, i.slaBreached, i.timeToResolve, i.timeToAcknowledge)
+                        FROM Incident i
+                        """)
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+        Stream<IncidentRollupSource> streamRollupSources();
 
-        @Query("SELECT AVG(i.timeToAcknowledge) FROM Incident i WHERE i.timeToAcknowledge IS NOT NULL")
-        Double averageTimeToAcknowledge();
+        @Query("""
+                        SELECT new com.incidentnow.repository.IncidentRollupSource(
+                            i.createdAt, i.resolvedAt, i.closedAt, i.status, i.priority, i.category,
+                            i.owner.id, i.slaBreached, i.timeToResolve, i.timeToAcknowledge)
+                        FROM Incident i
+                        WHERE i.id IN :ids
+                        """)
+        List<IncidentRollupSource> findRollupSourcesByIdIn(@Param("ids") Collection<UUID> ids);
 
-        @Query("SELECT i.timeToResolve FROM Incident i WHERE i.timeToResolve IS NOT NULL ORDER BY i.timeToResolve")
-        List<Integer> findAllResolutionTimes();
+        @Query("SELECT i.id FROM Incident i WHERE i.id IN :ids")
+        List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
 
-        @Query("SELECT i FROM Incident i WHERE i.createdAt >= :from AND i.createdAt <= :toDate")
-        List<Incident> findByCreatedAtBetween(@Param("from") LocalDateTime from, @Param("toDate") LocalDateTime toDate);
+        @Query("SELECT i.id FROM Incident i WHERE i.status = 'CLOSED' AND i.closedAt < :before")
+        List<UUID> findClosedIdsBefore(@Param("before") LocalDateTime before);
 
-        @Query("SELECT COUNT(i) FROM Incident i WHERE i.owner.id = :ownerId")
-        long countByOwnerId(@Param("ownerId") UUID ownerId);
+        @Query("SELECT i.id FROM Incident i")
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+        Stream<UUID> streamIds();
 
-        @Query("SELECT COUNT(i) FROM Incident i WHERE i.owner.id = :ownerId AND i.status = :status")
-        long countByOwnerIdAndStatus(@Param("ownerId") UUID ownerId, @Param("status") IncidentStatus status);
+        @Query("""
+                        SELECT new com.incidentnow.repository.IncidentSearchSource(
+                            i.id, i.incidentNumber, i.title, i.description, i.rootCause, i.resolution,
+                            i.status, i.priority, i.category, i.owner.id)
+                        FROM Incident i
+                        WHERE i.id IN :ids
+                        """)
+        List<IncidentSearchSource> findSearchSourcesByIdIn(@Param("ids") Collection<UUID> ids);
 
-        @Query("SELECT MAX(i.incidentNumber) FROM Incident i")
-        String findMaxIncidentNumber();
+        @Query("SELECT new com.incidentnow.repository.IncidentTextRow(i.id, t) FROM Incident i JOIN i.tags t WHERE i.id IN :ids")
+        List<IncidentTextRow> findTagsByIncidentIdIn(@Param("ids") Collection<UUID> ids);
 
-        @Query("SELECT MAX(i.incidentNumber) FROM Incident i WHERE i.incidentNumber LIKE CONCAT('INC-', :year, '-%')")
+        // Sequences past 9999 are longer, so compare by length before comparing text
+        @Query("""
+                        SELECT MAX(i.incidentNumber) FROM Incident i
+                        WHERE i.incidentNumber LIKE CONCAT('INC-', :year, '-%')
+                        AND LENGTH(i.incidentNumber) = (
+                            SELECT MAX(LENGTH(j.incidentNumber)) FROM Incident j
+                            WHERE j.incidentNumber LIKE CONCAT('INC-', :year, '-%'))
+                        """)
         String findMaxIncidentNumberByYear(@Param("year") String year);
 
         @Query("SELECT COUNT(i) FROM Incident i WHERE i.owner.id = :ownerId AND i.status NOT IN ('CLOSED')")
         long countActiveByOwnerId(@Param("ownerId") UUID ownerId);
+
+        // ===== Bulk purge =====
+
+        // Hibernate removes the tag, affected-system and assignee rows of a bulk-deleted incident itself
+        @Modifying(clearAutomatically = true)
+        @Query("DELETE FROM Incident i WHERE i.id IN :ids")
+        int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,86 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.entity.IncidentRollup;
+import com.incidentnow.entity.IncidentRollupId;
+import com.incidentnow.model.RollupGranularity;
+import com.incidentnow.model.RollupMetric;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface IncidentRollupRepository extends JpaRepository<IncidentRollup, IncidentRollupId> {
+
+    @Query("""
+            SELECT new com.incidentnow.repository.RollupCountRow(
+                r.id.metric, r.id.dimensionValue, SUM(r.eventCount), SUM(r.totalMinutes))
+            FROM IncidentRollup r
+            WHERE r.id.granularity = :granularity
+            AND r.id.metric IN :metrics
+            AND (:from IS NULL OR r.id.bucketStart >= :from)
+            AND (:to IS NULL OR r.id.bucketStart < :to)
+            GROUP BY r.id.metric, r.id.dimensionValue
+            HAVING SUM(r.eventCount) <> 0
+            """)
+    List<RollupCountRow> sumByValue(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("metrics") Collection<RollupMetric> metrics,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query("""
+            SELECT new com.incidentnow.repository.RollupCountRow(
+                r.id.metric, r.id.dimensionValue, SUM(r.eventCount), SUM(r.totalMinutes))
+            FROM IncidentRollup r
+            WHERE r.id.granularity = :granularity
+            AND r.id.metric = :metric
+            GROUP BY r.id.metric, r.id.dimensionValue
+            HAVING SUM(r.eventCount) > 0
+            ORDER BY SUM(r.eventCount) DESC
+            """)
+    List<RollupCountRow> topValues(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("metric") RollupMetric metric,
+            Pageable pageable);
+
+    @Query("""
+            SELECT new com.incidentnow.repository.RollupCountRow(
+                r.id.metric, r.id.dimensionValue, SUM(r.eventCount), SUM(r.totalMinutes))
+            FROM IncidentRollup r
+            WHERE r.id.granularity = :granularity
+            AND r.id.metric = :metric
+            AND r.id.dimensionValue IN :values
+            GROUP BY r.id.metric, r.id.dimensionValue
+            """)
+    List<RollupCountRow> sumForValues(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("metric") RollupMetric metric,
+            @Param("values") Collection<String> values);
+
+    @Query("""
+            SELECT new com.incidentnow.repository.RollupBucketRow(
+                r.id.bucketStart, r.id.metric, SUM(r.eventCount), SUM(r.totalMinutes))
+            FROM IncidentRollup r
+            WHERE r.id.granularity = :granularity
+            AND r.id.metric IN :metrics
+            AND (:from IS NULL OR r.id.bucketStart >= :from)
+            AND (:to IS NULL OR r.id.bucketStart < :to)
+            GROUP BY r.id.bucketStart, r.id.metric
+            """)
+    List<RollupBucketRow> sumByBucket(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("metrics") Collection<RollupMetric> metrics,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM IncidentRollup r")
+    int deleteAllRollups();
+}
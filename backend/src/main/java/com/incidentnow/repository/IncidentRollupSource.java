@@ -0,0 +1,39 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.entity.Incident;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.IncidentStatus;
+import com.incidentnow.model.Priority;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The incident fields that feed the statistics rollups.
+ */
+public record IncidentRollupSource(
+        LocalDateTime createdAt,
+        LocalDateTime resolvedAt,
+        LocalDateTime closedAt,
+        IncidentStatus status,
+        Priority priority,
+        IncidentCategory category,
+        UUID ownerId,
+        boolean slaBreached,
+        Integer timeToResolve,
+        Integer timeToAcknowledge) {
+
+    public static IncidentRollupSource of(Incident incident) {
+        return new IncidentRollupSource(
+                incident.getCreatedAt(),
+                incident.getResolvedAt(),
+                incident.getClosedAt(),
+                incident.getStatus(),
+                incident.getPriority(),
+                incident.getCategory(),
+                incident.getOwner() != null ? incident.getOwner().getId() : null,
+                incident.isSlaBreached(),
+                incident.getTimeToResolve(),
+                incident.getTimeToAcknowledge());
+    }
+}
@@ -0,0 +1,23 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.IncidentStatus;
+import com.incidentnow.model.Priority;
+
+import java.util.UUID;
+
+/**
+ * The scalar incident fields that feed the full-text search index.
+ */
+public record IncidentSearchSource(
+        UUID id,
+        String incidentNumber,
+        String title,
+        String description,
+        String rootCause,
+        String resolution,
+        IncidentStatus status,
+        Priority priority,
+        IncidentCategory category,
+        UUID ownerId) {
+}
@@ -0,0 +1,104 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.entity.Incident;
+import com.incidentnow.entity.SupportEngineer;
+import com.incidentnow.model.*;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class IncidentSpecifications {
+
+    private IncidentSpecifications() {
+    }
+
+    /**
+     * Incident list filters. Only the filters that are actually set end up in the WHERE
+     * clause; assignee and tag filters are {@code EXISTS} subqueries so a match never
+     * duplicates incident rows. {@code tags} matches incidents carrying any of the tags.
+     */
+    public static Specification<Incident> withFilters(
+            IncidentStatus status, Priority priority, Severity severity,
+            IncidentCategory category, UUID ownerId, UUID assigneeId, List<String> tags,
+            LocalDateTime createdAfter, LocalDateTime createdBefore,
+            LocalDateTime resolvedAfter, LocalDateTime resolvedBefore,
+            Boolean hasGithubRepo, String search) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null)
+                predicates.add(cb.equal(root.get("status"), status));
+            if (priority != null)
+                predicates.add(cb.equal(root.get("priority"), priority));
+            if (severity != null)
+                predicates.add(cb.equal(root.get("severity"), severity));
+            if (category != null)
+                predicates.add(cb.equal(root.get("category"), category));
+            if (ownerId != null)
+                predicates.add(cb.equal(root.get("owner").get("id"), ownerId));
+            if (assigneeId != null) {
+                Subquery<Integer> assigned = query.subquery(Integer.class);
+                Join<Incident, SupportEngineer> assignee = assigned.correlate(root).join("assignees");
+                assigned.select(cb.literal(1)).where(cb.equal(assignee.get("id"), assigneeId));
+                predicates.add(cb.exists(assigned));
+            }
+            if (tags != null && !tags.isEmpty()) {
+                Subquery<Integer> tagged = query.subquery(Integer.class);
+                Join<Incident, String> tag = tagged.correlate(root).join("tags");
+                tagged.select(cb.literal(1)).where(tag.in(tags));
+                predicates.add(cb.exists(tagged));
+            }
+            if (createdAfter != null)
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), createdAfter));
+            if (createdBefore != null)
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), createdBefore));
+            if (resolvedAfter != null)
+                predicates.add(cb.greaterThanOrEqualTo(root.get("resolvedAt"), resolvedAfter));
+            if (resolvedBefore != null)
+                predicates.add(cb.lessThanOrEqualTo(root.get("resolvedAt"), resolvedBefore));
+            if (hasGithubRepo != null) {
+                // Same rule as GitHubRepo#getRepoUrl: a repository needs both owner and name
+                Path<Object> repo = root.get("githubRepo");
+                Predicate linked = cb.and(
+                        cb.isNotNull(repo.get("repoOwner")),
+                        cb.isNotNull(repo.get("repoName")));
+                predicates.add(hasGithubRepo ? linked : cb.not(linked));
+            }
+            if (search != null) {
+                String pattern = "%" + search.toLowerCase() + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("title")), pattern),
+                        cb.like(cb.lower(root.get("description")), pattern)));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Seek predicate for keyset pagination: rows strictly after {@code (key, id)} in the
+     * {@code ORDER BY property, id} order of the given direction.
+     */
+    public static Specification<Incident> seekAfter(String property, Sort.Direction direction,
+            Comparable<?> key, UUID id) {
+        return (root, query, cb) -> {
+            Path<Comparable<Object>> keyPath = root.get(property);
+            Path<UUID> idPath = root.get("id");
+            return cb.or(
+                    after(cb, keyPath, key, direction),
+                    cb.and(cb.equal(keyPath, key), after(cb, idPath, id, direction)));
+        };
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Predicate after(CriteriaBuilder cb, Path path, Comparable value, Sort.Direction direction) {
+        return direction.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+}
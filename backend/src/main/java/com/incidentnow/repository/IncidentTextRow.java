@@ -0,0 +1,9 @@
+package com.incidentnow.repository;
+
+import java.util.UUID;
+
+/**
+ * One text value (tag, comment) belonging to an incident.
+ */
+public record IncidentTextRow(UUID incidentId, String text) {
+}
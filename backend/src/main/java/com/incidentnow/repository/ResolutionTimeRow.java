@@ -0,0 +1,12 @@
+package com.incidentnow.repository;
+
+public record ResolutionTimeRow(
+        long count,
+        Double average,
+        Integer min,
+        Integer max,
+        Double p50,
+        Double p90,
+        Double p95,
+        Double p99) {
+}
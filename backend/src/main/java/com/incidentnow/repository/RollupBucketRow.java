@@ -0,0 +1,12 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.model.RollupMetric;
+
+import java.time.LocalDateTime;
+
+public record RollupBucketRow(
+        LocalDateTime bucketStart,
+        RollupMetric metric,
+        long count,
+        long totalMinutes) {
+}
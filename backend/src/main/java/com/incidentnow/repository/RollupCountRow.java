@@ -0,0 +1,10 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.model.RollupMetric;
+
+public record RollupCountRow(
+        RollupMetric metric,
+        String value,
+        long count,
+        long totalMinutes) {
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +34,9 @@ public interface SupportEngineerRepository extends JpaRepository<SupportEngineer
             @Param("search") String search,
             Pageable pageable);
 
+    @Query("SELECT DISTINCT se FROM SupportEngineer se LEFT JOIN FETCH se.categories WHERE se.id IN :ids")
+    List<SupportEngineer> findAllWithCategoriesByIdIn(@Param("ids") Collection<UUID> ids);
+
     @Query("SELECT se FROM SupportEngineer se JOIN se.categories c WHERE c = :category AND se.active = true")
     List<SupportEngineer> findByCategoryAndActive(@Param("category") IncidentCategory category);
 }
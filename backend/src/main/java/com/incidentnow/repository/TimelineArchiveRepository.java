@@ -0,0 +1,37 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.entity.TimelineArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TimelineArchiveRepository extends JpaRepository<TimelineArchive, UUID> {
+
+    @Query("SELECT a FROM TimelineArchive a WHERE a.incident.id = :incidentId ORDER BY a.firstTimestamp ASC")
+    List<TimelineArchive> findByIncidentId(@Param("incidentId") UUID incidentId);
+
+    @Query("""
+            SELECT a FROM TimelineArchive a
+            WHERE a.incident.id = :incidentId AND a.lastTimestamp >= :from
+            ORDER BY a.firstTimestamp ASC
+            """)
+    List<TimelineArchive> findByIncidentIdEndingAtOrAfter(
+            @Param("incidentId") UUID incidentId,
+            @Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query("DELETE FROM TimelineArchive a WHERE a.incident.id = :incidentId")
+    int deleteByIncidentId(@Param("incidentId") UUID incidentId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineArchive a WHERE a.incident.id IN :incidentIds")
+    int deleteByIncidentIdIn(@Param("incidentIds") Collection<UUID> incidentIds);
+}
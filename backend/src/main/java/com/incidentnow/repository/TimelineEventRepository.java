@@ -1,14 +1,89 @@
 package com.incidentnow.repository;
 
 import com.incidentnow.entity.TimelineEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TimelineEventRepository extends JpaRepository<TimelineEvent, UUID> {
 
-    List<TimelineEvent> findByIncidentIdOrderByTimestampAsc(UUID incidentId);
+    String ROW_SELECT = """
+            SELECT new com.incidentnow.repository.TimelineEventRow(
+                t.id, t.incident.id, t.eventType, t.description, t.previousValue, t.newValue,
+                a.id, a.name, a.email, a.avatarUrl, a.team, a.role, t.timestamp)
+            FROM TimelineEvent t LEFT JOIN t.actor a
+            """;
+
+    @Query(ROW_SELECT + "WHERE t.incident.id = :incidentId ORDER BY t.timestamp ASC, t.id ASC")
+    List<TimelineEventRow> findRowsByIncidentId(@Param("incidentId") UUID incidentId);
+
+    @Query(ROW_SELECT + "WHERE t.incident.id = :incidentId ORDER BY t.timestamp ASC, t.id ASC")
+    List<TimelineEventRow> findRowsByIncidentId(@Param("incidentId") UUID incidentId, Pageable pageable);
+
+    @Query(ROW_SELECT + """
+            WHERE t.incident.id = :incidentId
+            AND (t.timestamp > :timestamp OR (t.timestamp = :timestamp AND t.id > :id))
+            ORDER BY t.timestamp ASC, t.id ASC
+            """)
+    List<TimelineEventRow> findRowsByIncidentIdAfter(
+            @Param("incidentId") UUID incidentId,
+            @Param("timestamp") LocalDateTime timestamp,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    /** Events of all incidents after a position, for resuming the change stream. */
+    @Query(ROW_SELECT + """
+            WHERE t.timestamp > :timestamp OR (t.timestamp = :timestamp AND t.id > :id)
+            ORDER BY t.timestamp ASC, t.id ASC
+            """)
+    List<TimelineEventRow> findRowsAfter(
+            @Param("timestamp") LocalDateTime timestamp,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE t.incident.id = :incidentId ORDER BY t.timestamp ASC, t.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<TimelineEventRow> streamRowsByIncidentId(@Param("incidentId") UUID incidentId);
+
+    // ===== Retention =====
+
+    @Query("SELECT DISTINCT t.incident.id FROM TimelineEvent t WHERE t.timestamp < :before")
+    List<UUID> findIncidentIdsWithEventsBefore(@Param("before") LocalDateTime before);
+
+    @Query(ROW_SELECT + """
+            WHERE t.incident.id IN :incidentIds AND t.timestamp < :before
+            ORDER BY t.incident.id, t.timestamp ASC, t.id ASC
+            """)
+    List<TimelineEventRow> findRowsByIncidentIdInBefore(
+            @Param("incidentIds") Collection<UUID> incidentIds,
+            @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEvent t WHERE t.incident.id IN :incidentIds AND t.timestamp < :before")
+    int deleteByIncidentIdInBefore(
+            @Param("incidentIds") Collection<UUID> incidentIds,
+            @Param("before") LocalDateTime before);
+
+    // ===== Bulk delete =====
+
+    @Modifying
+    @Query("DELETE FROM TimelineEvent t WHERE t.incident.id = :incidentId")
+    int deleteByIncidentId(@Param("incidentId") UUID incidentId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEvent t WHERE t.incident.id IN :incidentIds")
+    int deleteByIncidentIdIn(@Param("incidentIds") Collection<UUID> incidentIds);
 }
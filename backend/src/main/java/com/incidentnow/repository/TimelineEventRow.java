@@ -0,0 +1,26 @@
+package com.incidentnow.repository;
+
+import com.incidentnow.model.OwnerRole;
+import com.incidentnow.model.TimelineEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Timeline event with its actor's summary columns, read in one query without loading entities.
+ */
+public record TimelineEventRow(
+        UUID id,
+        UUID incidentId,
+        TimelineEventType eventType,
+        String description,
+        String previousValue,
+        String newValue,
+        UUID actorId,
+        String actorName,
+        String actorEmail,
+        String actorAvatarUrl,
+        String actorTeam,
+        OwnerRole actorRole,
+        LocalDateTime timestamp) {
+}
@@ -0,0 +1,69 @@
+package com.incidentnow.service;
+
+import com.incidentnow.repository.IncidentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Year;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hi-lo allocation: each {@code nextval} of {@code incident_number_block_seq_<year>} reserves
+ * a block of {@code app.incidents.number-block-size} numbers for this instance, which are then
+ * handed out from memory. Numbers are unique across instances but only increasing per
+ * instance, and whatever is left of a block when the instance stops is skipped.
+ */
+@Component
+@ConditionalOnProperty(name = "app.incidents.number-allocator", havingValue = "block")
+public class BlockIncidentNumberAllocator extends SequenceBackedIncidentNumberAllocator {
+
+    private final int blockSize;
+
+    private final AtomicReference<Block> current = new AtomicReference<>();
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    public BlockIncidentNumberAllocator(IncidentRepository incidentRepository, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory,
+            @Value("${app.incidents.number-block-size:50}") int blockSize) {
+        super(incidentRepository, jdbcTemplate, transactionManager, entityManagerFactory,
+                "incident_number_block_seq_", blockSize);
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public String allocate() {
+        int year = Year.now().getValue();
+        while (true) {
+            Block block = current.get();
+            if (block != null && block.year() == year) {
+                long sequence = block.next().getAndIncrement();
+                if (sequence < block.end()) {
+                    return IncidentNumberAllocator.format(year, sequence);
+                }
+            }
+            refill(block, year);
+        }
+    }
+
+    // Only callers that find the block exhausted (or from last year) wait here
+    private void refill(Block stale, int year) {
+        refillLock.lock();
+        try {
+            if (current.get() == stale) {
+                long start = nextValue(year);
+                current.set(new Block(year, new AtomicLong(start), start + blockSize));
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private record Block(int year, AtomicLong next, long end) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.incidentnow.service;
+
+import com.incidentnow.repository.IncidentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-year counters held in this JVM. Only safe with a single instance; meant for tests and
+ * local runs.
+ */
+@Component
+@ConditionalOnProperty(name = "app.incidents.number-allocator", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryIncidentNumberAllocator implements IncidentNumberAllocator {
+
+    private final IncidentRepository incidentRepository;
+
+    private final Map<Integer, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public String allocate() {
+        int year = Year.now().getValue();
+        AtomicLong counter = counters.get(year);
+        if (counter == null) {
+            // Seeded outside computeIfAbsent, whose bin lock would pin a virtual thread during the query
+            AtomicLong seeded = new AtomicLong(IncidentNumberAllocator.maxSequence(incidentRepository, year));
+            AtomicLong existing = counters.putIfAbsent(year, seeded);
+            counter = existing != null ? existing : seeded;
+        }
+        return IncidentNumberAllocator.format(year, counter.incrementAndGet());
+    }
+}
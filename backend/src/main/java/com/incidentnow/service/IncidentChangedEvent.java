@@ -0,0 +1,10 @@
+package com.incidentnow.service;
+
+import java.util.UUID;
+
+/**
+ * Published by {@link IncidentService} whenever an incident is created, modified, commented on or deleted.
+ * Listeners that depend on committed state should use {@code @TransactionalEventListener}.
+ */
+public record IncidentChangedEvent(UUID incidentId) {
+}
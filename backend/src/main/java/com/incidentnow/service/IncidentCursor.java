@@ -0,0 +1,72 @@
+package com.incidentnow.service;
+
+import com.incidentnow.dto.IncidentListItemDTO;
+import com.incidentnow.entity.Incident;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Opaque keyset pagination token: the sort key and id of the last row of a slice.
+ * Encoded as base64url of {@code sortBy|direction|id|key}.
+ */
+public record IncidentCursor(String sortBy, Sort.Direction direction, UUID id, Comparable<?> key) {
+
+    public static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "updatedAt", "incidentNumber", "title");
+
+    public static IncidentCursor of(Incident incident, String sortBy, Sort.Direction direction) {
+        return new IncidentCursor(sortBy, direction, incident.getId(), keyOf(incident, sortBy));
+    }
+
+    public static IncidentCursor of(IncidentListItemDTO item, String sortBy, Sort.Direction direction) {
+        Comparable<?> key = switch (sortBy) {
+            case "createdAt" -> item.createdAt();
+            case "updatedAt" -> item.updatedAt();
+            case "incidentNumber" -> item.incidentNumber();
+            case "title" -> item.title();
+            default -> throw new IllegalArgumentException("Unsupported cursor sort field: " + sortBy);
+        };
+        return new IncidentCursor(sortBy, direction, item.id(), key);
+    }
+
+    public String encode() {
+        String raw = sortBy + "|" + direction.name() + "|" + id + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static IncidentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            String sortBy = parts[0];
+            if (!SORTABLE_FIELDS.contains(sortBy)) {
+                throw new IllegalArgumentException();
+            }
+            return new IncidentCursor(sortBy, Sort.Direction.valueOf(parts[1]), UUID.fromString(parts[2]),
+                    parseKey(sortBy, parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    private static Comparable<?> keyOf(Incident incident, String sortBy) {
+        return switch (sortBy) {
+            case "createdAt" -> incident.getCreatedAt();
+            case "updatedAt" -> incident.getUpdatedAt();
+            case "incidentNumber" -> incident.getIncidentNumber();
+            case "title" -> incident.getTitle();
+            default -> throw new IllegalArgumentException("Unsupported cursor sort field: " + sortBy);
+        };
+    }
+
+    private static Comparable<?> parseKey(String sortBy, String value) {
+        return switch (sortBy) {
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            default -> value;
+        };
+    }
+}
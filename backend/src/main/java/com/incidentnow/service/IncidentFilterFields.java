@@ -0,0 +1,24 @@
+package com.incidentnow.service;
+
+import com.incidentnow.dto.IncidentListItemDTO;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.IncidentStatus;
+import com.incidentnow.model.Priority;
+import com.incidentnow.repository.IncidentRollupSource;
+
+import java.util.UUID;
+
+/**
+ * The incident fields an {@link IncidentStreamService.Filter} selects on.
+ */
+public record IncidentFilterFields(IncidentStatus status, Priority priority, IncidentCategory category, UUID ownerId) {
+
+    public static IncidentFilterFields of(IncidentRollupSource source) {
+        return new IncidentFilterFields(source.status(), source.priority(), source.category(), source.ownerId());
+    }
+
+    public static IncidentFilterFields of(IncidentListItemDTO incident) {
+        return new IncidentFilterFields(incident.status(), incident.priority(), incident.category(),
+                incident.ownerId());
+    }
+}
@@ -0,0 +1,72 @@
+package com.incidentnow.service;
+
+import com.incidentnow.entity.Incident;
+import com.incidentnow.model.Priority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Time-to-acknowledge and time-to-resolve histograms, per priority, recorded when an incident
+ * makes the transition. Recording waits for the commit so rolled-back changes are not counted.
+ */
+@Component
+public class IncidentLifecycleMetrics {
+
+    private static final Duration[] BUCKETS = {
+            Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ofMinutes(30), Duration.ofHours(1),
+            Duration.ofHours(4), Duration.ofHours(8), Duration.ofDays(1), Duration.ofDays(3), Duration.ofDays(7)};
+
+    private final Map<Priority, Timer> timeToAcknowledge = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> timeToResolve = new EnumMap<>(Priority.class);
+
+    public IncidentLifecycleMetrics(MeterRegistry registry) {
+        for (Priority priority : Priority.values()) {
+            timeToAcknowledge.put(priority, timer(registry, "incidentnow.incident.time.to.acknowledge",
+                    "Time from creation until an incident is first assigned", priority));
+            timeToResolve.put(priority, timer(registry, "incidentnow.incident.time.to.resolve",
+                    "Time from creation until an incident is resolved", priority));
+        }
+    }
+
+    public void acknowledged(Incident incident) {
+        record(timeToAcknowledge, incident.getPriority(), incident.getCreatedAt(), incident.getAcknowledgedAt());
+    }
+
+    public void resolved(Incident incident) {
+        record(timeToResolve, incident.getPriority(), incident.getCreatedAt(), incident.getResolvedAt());
+    }
+
+    private void record(Map<Priority, Timer> timers, Priority priority, LocalDateTime from, LocalDateTime to) {
+        if (priority == null || from == null || to == null) {
+            return;
+        }
+        Timer timer = timers.get(priority);
+        Duration duration = Duration.between(from, to);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            timer.record(duration);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                timer.record(duration);
+            }
+        });
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, Priority priority) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("priority", priority.getValue())
+                .serviceLevelObjectives(BUCKETS)
+                .register(registry);
+    }
+}
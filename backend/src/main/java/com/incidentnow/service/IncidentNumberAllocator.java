@@ -0,0 +1,48 @@
+package com.incidentnow.service;
+
+import com.incidentnow.repository.IncidentRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands out incident numbers of the form {@code INC-<year>-<sequence>}; the sequence restarts
+ * at 1 every calendar year. The implementation is selected with
+ * {@code app.incidents.number-allocator}: {@code sequence} (default), {@code block} or
+ * {@code memory}.
+ */
+public interface IncidentNumberAllocator {
+
+    String allocate();
+
+    /**
+     * Allocates {@code count} numbers for a batch of new incidents.
+     */
+    default List<String> allocate(int count) {
+        List<String> numbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            numbers.add(allocate());
+        }
+        return numbers;
+    }
+
+    static String format(int year, long sequence) {
+        return "INC-%d-%04d".formatted(year, sequence);
+    }
+
+    /**
+     * Highest sequence already used in {@code year}, or 0. Allocators start after it so
+     * numbers created before they took over (sample data, older allocators) are never reused.
+     */
+    static long maxSequence(IncidentRepository incidentRepository, int year) {
+        String maxNumber = incidentRepository.findMaxIncidentNumberByYear(String.valueOf(year));
+        if (maxNumber == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(maxNumber.substring(maxNumber.lastIndexOf('-') + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Could not parse incident number: " + maxNumber, e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.incidentnow.service;
+
+import com.incidentnow.dto.RollupRebuildDTO;
+import com.incidentnow.model.RollupGranularity;
+import com.incidentnow.model.RollupMetric;
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.repository.IncidentRollupRepository;
+import com.incidentnow.repository.IncidentRollupSource;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the {@code incident_rollups} counters that back the statistics endpoints.
+ * <p>
+ * Every incident write records the difference between the incident's rollup contributions
+ * before and after the change, so the counters stay exact without rescanning the incidents
+ * table. {@link #rebuild()} regenerates all counters from history.
+ */
+@Service
+@RequiredArgsConstructor
+public class IncidentRollupService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentRollupService.class);
+
+    private static final String UPSERT_SQL = """
+            MERGE INTO incident_rollups r
+            USING (SELECT CAST(? AS VARCHAR(16)) AS granularity, CAST(? AS TIMESTAMP) AS bucket_start,
+                          CAST(? AS VARCHAR(32)) AS metric, CAST(? AS VARCHAR(64)) AS dimension_value,
+                          CAST(? AS BIGINT) AS event_count, CAST(? AS BIGINT) AS total_minutes) d
+            ON r.granularity = d.granularity AND r.bucket_start = d.bucket_start
+               AND r.metric = d.metric AND r.dimension_value = d.dimension_value
+            WHEN MATCHED THEN UPDATE SET
+                event_count = r.event_count + d.event_count,
+                total_minutes = r.total_minutes + d.total_minutes
+            WHEN NOT MATCHED THEN INSERT (granularity, bucket_start, metric, dimension_value, event_count, total_minutes)
+                VALUES (d.granularity, d.bucket_start, d.metric, d.dimension_value, d.event_count, d.total_minutes)
+            """;
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_UPSERT_ATTEMPTS = 20;
+
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator
+            .comparing(RollupKey::granularity)
+            .thenComparing(RollupKey::bucketStart)
+            .thenComparing(RollupKey::metric)
+            .thenComparing(RollupKey::value);
+
+    private final IncidentRollupRepository rollupRepository;
+    private final IncidentRepository incidentRepository;
+    private final StatisticsCache statisticsCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean running;
+
+    /**
+     * Builds missing rollups once the data exists (including generated synthetic data) but before
+     * the web server starts, so no request sees, and caches, empty statistics.
+     */
+    @Override
+    @Transactional
+    public void start() {
+        initRollups();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // The web server starts at SMART_LIFECYCLE_PHASE - 1024
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    /** Also after the sample data loaders, which run once the web server is up. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initRollups() {
+        if (rollupRepository.count() == 0 && incidentRepository.count() > 0) {
+            log.info("Incident rollups are empty, rebuilding from history");
+            rebuild();
+        }
+    }
+
+    /**
+     * Applies the rollup delta of one incident change. {@code before} is null for a new
+     * incident and {@code after} is null for a deleted one. Must run inside the transaction
+     * that writes the incident.
+     */
+    public void record(IncidentRollupSource before, IncidentRollupSource after) {
+        Map<RollupKey, long[]> deltas = new HashMap<>();
+        if (after != null)
+            contribute(deltas, after, 1);
+        if (before != null)
+            contribute(deltas, before, -1);
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0);
+        if (!deltas.isEmpty()) {
+            upsert(deltas, this::upsertBatch);
+        }
+    }
+
+    /**
+     * Applies the contributions of a batch of newly created incidents in one upsert.
+     */
+    public void recordCreated(Collection<IncidentRollupSource> created) {
+        recordAll(created, 1);
+    }
+
+    /**
+     * Removes the contributions of a batch of deleted incidents in one upsert.
+     */
+    public void recordDeleted(Collection<IncidentRollupSource> deleted) {
+        recordAll(deleted, -1);
+    }
+
+    private void recordAll(Collection<IncidentRollupSource> sources, int sign) {
+        Map<RollupKey, long[]> deltas = new HashMap<>();
+        sources.forEach(source -> contribute(deltas, source, sign));
+        if (!deltas.isEmpty()) {
+            upsert(deltas, this::upsertBatch);
+        }
+    }
+
+    @Transactional
+    public RollupRebuildDTO rebuild() {
+        long start = System.currentTimeMillis();
+        rollupRepository.deleteAllRollups();
+
+        Map<RollupKey, long[]> totals = new HashMap<>();
+        long incidents = 0;
+        try (Stream<IncidentRollupSource> sources = incidentRepository.streamRollupSources()) {
+            for (Iterator<IncidentRollupSource> it = sources.iterator(); it.hasNext();) {
+                contribute(totals, it.next(), 1);
+                incidents++;
+            }
+        }
+        upsert(totals, this::mergeBatch);
+        statisticsCache.invalidate();
+        // Again once committed, dropping what requests computed from the old rollups meanwhile
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                statisticsCache.invalidate();
+            }
+        });
+
+        long duration = System.currentTimeMillis() - start;
+        log.info("Rebuilt {} rollup rows from {} incidents in {} ms", totals.size(), incidents, duration);
+        return new RollupRebuildDTO(incidents, totals.size(), duration);
+    }
+
+    private void contribute(Map<RollupKey, long[]> deltas, IncidentRollupSource source, int sign) {
+        LocalDateTime created = source.createdAt();
+        add(deltas, created, RollupMetric.CREATED, "", sign, 0);
+        add(deltas, created, RollupMetric.STATUS, source.status().name(), sign, 0);
+        add(deltas, created, RollupMetric.PRIORITY, source.priority().name(), sign, 0);
+        add(deltas, created, RollupMetric.CATEGORY, source.category().name(), sign, 0);
+        if (source.ownerId() != null) {
+            add(deltas, created, RollupMetric.OWNER, source.ownerId().toString(), sign, 0);
+            add(deltas, created, RollupMetric.OWNER_STATUS, ownerStatusValue(source.ownerId(), source.status().name()),
+                    sign, 0);
+        }
+        if (source.slaBreached())
+            add(deltas, created, RollupMetric.SLA_BREACHED, "", sign, 0);
+        if (source.timeToResolve() != null)
+            add(deltas, created, RollupMetric.RESOLUTION_TIME, "", sign, source.timeToResolve());
+        if (source.timeToAcknowledge() != null)
+            add(deltas, created, RollupMetric.ACKNOWLEDGE_TIME, "", sign, source.timeToAcknowledge());
+
+        if (source.resolvedAt() != null)
+            add(deltas, source.resolvedAt(), RollupMetric.RESOLVED, "", sign,
+                    source.timeToResolve() != null ? source.timeToResolve() : 0);
+        if (source.closedAt() != null)
+            add(deltas, source.closedAt(), RollupMetric.CLOSED, "", sign, 0);
+    }
+
+    private void add(Map<RollupKey, long[]> deltas, LocalDateTime timestamp, RollupMetric metric, String value,
+            int sign, long minutes) {
+        if (timestamp == null)
+            return;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            long[] delta = deltas.computeIfAbsent(
+                    new RollupKey(granularity, granularity.bucketOf(timestamp), metric, value), k -> new long[2]);
+            delta[0] += sign;
+            delta[1] += sign * minutes;
+        }
+    }
+
+    private void upsert(Map<RollupKey, long[]> deltas, Consumer<List<Object[]>> writer) {
+        // A fixed row order keeps concurrent writers from deadlocking on each other's rows
+        List<Map.Entry<RollupKey, long[]>> entries = new ArrayList<>(deltas.entrySet());
+        entries.sort(Map.Entry.comparingByKey(KEY_ORDER));
+
+        List<Object[]> batch = new ArrayList<>(Math.min(entries.size(), BATCH_SIZE));
+        for (Map.Entry<RollupKey, long[]> entry : entries) {
+            RollupKey key = entry.getKey();
+            batch.add(new Object[] { key.granularity().name(), Timestamp.valueOf(key.bucketStart()),
+                    key.metric().name(), key.value(), entry.getValue()[0], entry.getValue()[1] });
+            if (batch.size() == BATCH_SIZE) {
+                writer.accept(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            writer.accept(batch);
+        }
+    }
+
+    /**
+     * Merges the rows one at a time, in key order. A JDBC batch carries on past a failed row, and
+     * rolling a batch back to a savepoint does not wake the writers waiting on its rows: either lets
+     * two writers wait on each other's rows and deadlock.
+     */
+    private void upsertBatch(List<Object[]> batch) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            for (Object[] row : batch) {
+                mergeRow(connection, row);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Two transactions creating the same new bucket row race in the MERGE, and the loser gets a
+     * duplicate key error as it cannot see the winner's uncommitted row. The loser rolls the row back
+     * to a savepoint and retries shortly, until the winner has committed and the row can be updated.
+     */
+    private void mergeRow(Connection connection, Object[] row) throws SQLException {
+        for (int attempt = 1;; attempt++) {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                jdbcTemplate.update(UPSERT_SQL, row);
+                connection.releaseSavepoint(savepoint);
+                return;
+            } catch (DuplicateKeyException e) {
+                connection.rollback(savepoint);
+                if (attempt == MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Rollup upsert collided with a concurrent insert, retrying");
+                try {
+                    Thread.sleep(attempt * 5L);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /** For {@link #rebuild()}, which refills the table it has just emptied. */
+    private void mergeBatch(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    }
+
+    static String ownerStatusValue(UUID ownerId, String status) {
+        return ownerId + ":" + status;
+    }
+
+    private record RollupKey(RollupGranularity granularity, LocalDateTime bucketStart, RollupMetric metric,
+            String value) {
+    }
+}
@@ -0,0 +1,384 @@
+package com.incidentnow.service;
+
+import com.incidentnow.dto.SearchIndexStatusDTO;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.IncidentStatus;
+import com.incidentnow.model.Priority;
+import com.incidentnow.repository.CommentRepository;
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.repository.IncidentSearchSource;
+import com.incidentnow.repository.IncidentTextRow;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over incident text: title, description, root cause, resolution,
+ * tags and comments.
+ * <p>
+ * The index is derived data. It is rebuilt from the database on startup and on demand, and
+ * every committed {@link IncidentChangedEvent} re-indexes that incident. All writes go through
+ * a single indexer thread, so a rebuild and the incremental updates queued behind it never
+ * interleave, and searches keep using the previous snapshot until a rebuild has finished.
+ */
+@Component
+public class IncidentSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentSearchIndex.class);
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_NUMBER = "incidentNumber";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_DESCRIPTION = "description";
+    static final String FIELD_ROOT_CAUSE = "rootCause";
+    static final String FIELD_RESOLUTION = "resolution";
+    static final String FIELD_TAGS = "tags";
+    static final String FIELD_COMMENTS = "comments";
+    static final String FIELD_STATUS = "status";
+    static final String FIELD_PRIORITY = "priority";
+    static final String FIELD_CATEGORY = "category";
+    static final String FIELD_OWNER = "ownerId";
+
+    private static final String[] HIGHLIGHT_FIELDS = {
+            FIELD_TITLE, FIELD_DESCRIPTION, FIELD_ROOT_CAUSE, FIELD_RESOLUTION, FIELD_COMMENTS };
+
+    private static final Map<String, Float> QUERY_WEIGHTS = Map.of(
+            FIELD_TITLE, 3f,
+            FIELD_TAGS, 2f,
+            FIELD_DESCRIPTION, 1f,
+            FIELD_ROOT_CAUSE, 1f,
+            FIELD_RESOLUTION, 1f,
+            FIELD_COMMENTS, 0.5f);
+
+    // Offsets in the postings let the highlighter skip re-analysing stored text
+    private static final FieldType HIGHLIGHTED_TEXT = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        HIGHLIGHTED_TEXT.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        HIGHLIGHTED_TEXT.freeze();
+    }
+
+    private static final int BATCH_SIZE = 500;
+
+    private final IncidentRepository incidentRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Analyzer analyzer = new IncidentTextAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "incident-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile LocalDateTime lastRebuildAt;
+    private volatile Long lastRebuildMillis;
+
+    public IncidentSearchIndex(IncidentRepository incidentRepository, CommentRepository commentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.search.index-path:}") String indexPath) throws IOException {
+        this.incidentRepository = incidentRepository;
+        this.commentRepository = commentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+        log.info("Incident search index opened ({})", indexPath.isBlank() ? "in memory" : indexPath);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        requestRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIncidentChanged(IncidentChangedEvent event) {
+        UUID incidentId = event.incidentId();
+        // Coalesce bursts of changes to the same incident into one re-index
+        if (pending.add(incidentId)) {
+            indexer.execute(() -> {
+                pending.remove(incidentId);
+                reindex(List.of(incidentId));
+            });
+        }
+    }
+
+    /**
+     * Queues a full rebuild. Returns false if one is already queued or running.
+     */
+    public boolean requestRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        indexer.execute(this::rebuild);
+        return true;
+    }
+
+    public SearchIndexStatusDTO status() {
+        try {
+            // Count what searches currently see, not the half-built index of a running rebuild
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return new SearchIndexStatusDTO(searcher.getIndexReader().numDocs(), pending.size(),
+                        rebuilding.get(), lastRebuildAt, lastRebuildMillis);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read search index status", e);
+        }
+    }
+
+    public SearchResult search(String text, IncidentStatus status, Priority priority, IncidentCategory category,
+            UUID ownerId, int offset, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, QUERY_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(text);
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new BooleanQuery.Builder()
+                        .add(textQuery, BooleanClause.Occur.SHOULD)
+                        .add(new BoostQuery(new TermQuery(new Term(FIELD_NUMBER, text.trim().toUpperCase())), 10f),
+                                BooleanClause.Occur.SHOULD)
+                        .build(), BooleanClause.Occur.MUST);
+        addFilter(query, FIELD_STATUS, status != null ? status.name() : null);
+        addFilter(query, FIELD_PRIORITY, priority != null ? priority.name() : null);
+        addFilter(query, FIELD_CATEGORY, category != null ? category.name() : null);
+        addFilter(query, FIELD_OWNER, ownerId != null ? ownerId.toString() : null);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return search(searcher, query.build(), textQuery, offset, limit);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Incident search failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        indexer.shutdown();
+        indexer.awaitTermination(10, TimeUnit.SECONDS);
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // ===== Search =====
+
+    private SearchResult search(IndexSearcher searcher, Query query, Query textQuery, int offset, int limit)
+            throws IOException {
+        TopDocs top = searcher.search(query, offset + limit);
+        long totalHits = top.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                ? top.totalHits.value
+                : searcher.count(query);
+        if (offset >= top.scoreDocs.length) {
+            return new SearchResult(totalHits, List.of());
+        }
+
+        ScoreDoc[] page = Arrays.copyOfRange(top.scoreDocs, offset, top.scoreDocs.length);
+        int[] docIds = Arrays.stream(page).mapToInt(scoreDoc -> scoreDoc.doc).toArray();
+        int[] maxPassages = new int[HIGHLIGHT_FIELDS.length];
+        Arrays.fill(maxPassages, 2);
+
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", " … ", true))
+                .withMaxNoHighlightPassages(0)
+                .build();
+        Map<String, String[]> snippets = highlighter.highlightFields(HIGHLIGHT_FIELDS, textQuery, docIds,
+                maxPassages);
+
+        StoredFields storedFields = searcher.storedFields();
+        Set<String> idField = Set.of(FIELD_ID);
+        List<SearchHit> hits = new ArrayList<>(page.length);
+        for (int i = 0; i < page.length; i++) {
+            Map<String, String> highlights = new LinkedHashMap<>();
+            for (String field : HIGHLIGHT_FIELDS) {
+                String snippet = snippets.get(field)[i];
+                if (snippet != null) {
+                    highlights.put(field, snippet);
+                }
+            }
+            UUID id = UUID.fromString(storedFields.document(page[i].doc, idField).get(FIELD_ID));
+            hits.add(new SearchHit(id, page[i].score, highlights));
+        }
+        return new SearchResult(totalHits, hits);
+    }
+
+    private static void addFilter(BooleanQuery.Builder query, String field, String value) {
+        if (value != null) {
+            query.add(new TermQuery(new Term(field, value)), BooleanClause.Occur.FILTER);
+        }
+    }
+
+    // ===== Indexing =====
+
+    private void reindex(Collection<UUID> incidentIds) {
+        try {
+            Map<UUID, Document> documents = readOnlyTransaction.execute(status -> loadDocuments(incidentIds));
+            for (UUID incidentId : incidentIds) {
+                Term idTerm = new Term(FIELD_ID, incidentId.toString());
+                Document document = documents.get(incidentId);
+                if (document != null) {
+                    writer.updateDocument(idTerm, document);
+                } else {
+                    writer.deleteDocuments(idTerm);
+                }
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to index incidents {}", incidentIds, e);
+        }
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            writer.deleteAll();
+            long indexed = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<UUID> ids = incidentRepository.streamIds()) {
+                    List<UUID> batch = new ArrayList<>(BATCH_SIZE);
+                    for (Iterator<UUID> it = ids.iterator(); it.hasNext();) {
+                        batch.add(it.next());
+                        if (batch.size() == BATCH_SIZE || !it.hasNext()) {
+                            writer.addDocuments(loadDocuments(batch).values());
+                            count += batch.size();
+                            batch.clear();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+            writer.commit();
+            searcherManager.maybeRefresh();
+
+            lastRebuildAt = LocalDateTime.now();
+            lastRebuildMillis = System.currentTimeMillis() - start;
+            log.info("Rebuilt incident search index with {} incidents in {} ms", indexed, lastRebuildMillis);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to rebuild incident search index", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private Map<UUID, Document> loadDocuments(Collection<UUID> incidentIds) {
+        Map<UUID, List<String>> tags = groupText(incidentRepository.findTagsByIncidentIdIn(incidentIds));
+        Map<UUID, List<String>> comments = groupText(commentRepository.findContentByIncidentIdIn(incidentIds));
+
+        Map<UUID, Document> documents = new HashMap<>();
+        for (IncidentSearchSource source : incidentRepository.findSearchSourcesByIdIn(incidentIds)) {
+            documents.put(source.id(), toDocument(source,
+                    tags.getOrDefault(source.id(), List.of()),
+                    comments.getOrDefault(source.id(), List.of())));
+        }
+        return documents;
+    }
+
+    private static Map<UUID, List<String>> groupText(List<IncidentTextRow> rows) {
+        return rows.stream().collect(Collectors.groupingBy(IncidentTextRow::incidentId,
+                Collectors.mapping(IncidentTextRow::text, Collectors.toList())));
+    }
+
+    private static Document toDocument(IncidentSearchSource source, List<String> tags, List<String> comments) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, source.id().toString(), Field.Store.YES));
+        document.add(new StringField(FIELD_NUMBER, source.incidentNumber(), Field.Store.NO));
+        addText(document, FIELD_TITLE, source.title());
+        addText(document, FIELD_DESCRIPTION, source.description());
+        addText(document, FIELD_ROOT_CAUSE, source.rootCause());
+        addText(document, FIELD_RESOLUTION, source.resolution());
+        comments.forEach(comment -> addText(document, FIELD_COMMENTS, comment));
+        tags.forEach(tag -> document.add(new TextField(FIELD_TAGS, tag, Field.Store.NO)));
+
+        document.add(new StringField(FIELD_STATUS, source.status().name(), Field.Store.NO));
+        document.add(new StringField(FIELD_PRIORITY, source.priority().name(), Field.Store.NO));
+        document.add(new StringField(FIELD_CATEGORY, source.category().name(), Field.Store.NO));
+        if (source.ownerId() != null) {
+            document.add(new StringField(FIELD_OWNER, source.ownerId().toString(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new Field(field, value, HIGHLIGHTED_TEXT));
+        }
+    }
+
+    public record SearchHit(UUID incidentId, float score, Map<String, String> highlights) {
+    }
+
+    public record SearchResult(long totalHits, List<SearchHit> hits) {
+    }
+
+    /**
+     * Standard tokenization with lower-casing and accent folding, so "cache" matches "Caché"
+     * in both the English and Spanish sample data.
+     */
+    private static final class IncidentTextAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            return new TokenStreamComponents(source, new ASCIIFoldingFilter(new LowerCaseFilter(source)));
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
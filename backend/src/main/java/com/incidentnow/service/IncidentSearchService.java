@@ -0,0 +1,70 @@
+package com.incidentnow.service;
+
+import com.incidentnow.dto.IncidentListItemDTO;
+import com.incidentnow.dto.IncidentSearchHitDTO;
+import com.incidentnow.dto.PagedResponseDTO;
+import com.incidentnow.dto.PaginationDTO;
+import com.incidentnow.dto.SearchIndexStatusDTO;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.IncidentStatus;
+import com.incidentnow.model.Priority;
+import com.incidentnow.repository.IncidentRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class IncidentSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentSearchService.class);
+
+    private final IncidentSearchIndex searchIndex;
+    private final IncidentRepository incidentRepository;
+
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<IncidentSearchHitDTO> search(String query, int page, int pageSize,
+            IncidentStatus status, Priority priority, IncidentCategory category, UUID ownerId) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (page < 1 || pageSize < 1) {
+            throw new IllegalArgumentException("page and pageSize must be positive");
+        }
+        log.debug("Searching incidents - query: {}, page: {}, size: {}", query, page, pageSize);
+
+        IncidentSearchIndex.SearchResult result = searchIndex.search(query, status, priority, category, ownerId,
+                (page - 1) * pageSize, pageSize);
+
+        // The index may briefly lag a delete, so hits without a row are dropped
+        List<UUID> ids = result.hits().stream().map(IncidentSearchIndex.SearchHit::incidentId).toList();
+        Map<UUID, IncidentListItemDTO> items = ids.isEmpty() ? Map.of()
+                : incidentRepository.findListItemsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(IncidentListItemDTO::id, Function.identity()));
+
+        List<IncidentSearchHitDTO> hits = result.hits().stream()
+                .filter(hit -> items.containsKey(hit.incidentId()))
+                .map(hit -> new IncidentSearchHitDTO(items.get(hit.incidentId()), hit.score(), hit.highlights()))
+                .toList();
+
+        return new PagedResponseDTO<>(hits, PaginationDTO.of(page, pageSize, result.totalHits()));
+    }
+
+    public SearchIndexStatusDTO getIndexStatus() {
+        return searchIndex.status();
+    }
+
+    public SearchIndexStatusDTO rebuildIndex() {
+        boolean queued = searchIndex.requestRebuild();
+        log.info("Search index rebuild {}", queued ? "queued" : "already in progress");
+        return searchIndex.status();
+    }
+}
@@ -3,72 +3,57 @@ package com.incidentnow.service;
 import com.incidentnow.config.DtoMapper;
 import com.incidentnow.dto.*;
 import com.incidentnow.entity.*;
+import com.incidentnow.exception.AssigneeValidationException;
 import com.incidentnow.exception.ConflictException;
 import com.incidentnow.exception.ResourceNotFoundException;
 import com.incidentnow.model.*;
 import com.incidentnow.repository.*;
+import com.incidentnow.service.SupportEngineerCapabilityIndex.Capability;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.Year;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed("incidentnow.service")
 @RequiredArgsConstructor
 public class IncidentService {
 
     private static final Logger log = LoggerFactory.getLogger(IncidentService.class);
 
+    private static final int PURGE_CHUNK_SIZE = 500;
+
     private final IncidentRepository incidentRepository;
     private final OwnerRepository ownerRepository;
     private final SupportEngineerRepository supportEngineerRepository;
     private final CommentRepository commentRepository;
     private final TimelineEventRepository timelineEventRepository;
     private final DtoMapper mapper;
-
-    private final AtomicLong sequenceCounter = new AtomicLong(-1);
-    private volatile boolean initialized = false;
-
-    @org.springframework.context.event.EventListener(org.springframework.boot.context.event.ApplicationReadyEvent.class)
-    public void initSequence() {
-        initSequenceFromDb();
-    }
-
-    private synchronized void initSequenceFromDb() {
-        String currentYear = String.valueOf(Year.now().getValue());
-        String maxNumber = incidentRepository.findMaxIncidentNumberByYear(currentYear);
-        if (maxNumber != null) {
-            try {
-                String[] parts = maxNumber.split("-");
-                long maxSeq = Long.parseLong(parts[parts.length - 1]);
-                sequenceCounter.set(maxSeq);
-                log.info("Initialized incident sequence counter to {} from {}", maxSeq, maxNumber);
-            } catch (Exception e) {
-                log.warn("Could not parse max incident number: {}", maxNumber);
-                sequenceCounter.set(0);
-            }
-        } else {
-            sequenceCounter.set(0);
-        }
-        initialized = true;
-    }
-
-    private synchronized String generateIncidentNumber() {
-        if (!initialized) {
-            initSequenceFromDb();
-        }
-        long seq = sequenceCounter.incrementAndGet();
-        return "INC-%d-%04d".formatted(Year.now().getValue(), seq);
-    }
+    private final IncidentRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IncidentNumberAllocator incidentNumberAllocator;
+    private final Validator validator;
+    private final SupportEngineerCapabilityIndex capabilityIndex;
+    private final TimelineEventWriter timelineEventWriter;
+    private final TimelineArchiveRepository timelineArchiveRepository;
+    private final TimelineArchiveService timelineArchiveService;
+    private final IncidentLifecycleMetrics lifecycleMetrics;
 
     // ===== CRUD =====
 
@@ -87,16 +72,126 @@ public class IncidentService {
                 sortBy != null ? sortBy : "createdAt");
         Pageable pageable = PageRequest.of(page - 1, pageSize, sort);
 
-        Page<Incident> result = incidentRepository.findWithFilters(
-                status, priority, severity, category, ownerId,
-                createdAfter, createdBefore, resolvedAfter, resolvedBefore,
-                search, pageable);
+        Specification<Incident> spec = IncidentSpecifications.withFilters(
+                status, priority, severity, category, ownerId, assigneeId, parseTags(tags),
+                createdAfter, createdBefore, resolvedAfter, resolvedBefore, hasGithubRepo, search);
+        Page<Incident> result = incidentRepository.findAll(spec, pageable);
 
         return new PagedResponseDTO<>(
                 result.getContent().stream().map(mapper::toIncidentResponse).toList(),
                 PaginationDTO.of(page, pageSize, result.getTotalElements()));
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<IncidentListItemDTO> listIncidentItems(
+            int page, int pageSize, String sortBy, String sortOrder,
+            IncidentStatus status, Priority priority, Severity severity,
+            IncidentCategory category, UUID ownerId, UUID assigneeId,
+            String tags, LocalDateTime createdAfter, LocalDateTime createdBefore,
+            LocalDateTime resolvedAfter, LocalDateTime resolvedBefore,
+            Boolean hasGithubRepo, String search) {
+
+        log.debug("Listing compact incidents - page: {}, size: {}, sortBy: {}, status: {}", page, pageSize, sortBy,
+                status);
+
+        Sort sort = Sort.by(Sort.Direction.fromString(sortOrder != null ? sortOrder : "desc"),
+                sortBy != null ? sortBy : "createdAt");
+        Pageable pageable = PageRequest.of(page - 1, pageSize, sort);
+
+        Specification<Incident> spec = IncidentSpecifications.withFilters(
+                status, priority, severity, category, ownerId, assigneeId, parseTags(tags),
+                createdAfter, createdBefore, resolvedAfter, resolvedBefore, hasGithubRepo, search);
+        Page<IncidentListItemDTO> result = incidentRepository.findListItems(spec, pageable);
+
+        return new PagedResponseDTO<>(result.getContent(),
+                PaginationDTO.of(page, pageSize, result.getTotalElements()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPagedResponseDTO<IncidentResponseDTO> listIncidentsByCursor(
+            String cursor, int pageSize, String sortBy, String sortOrder,
+            IncidentStatus status, Priority priority, Severity severity,
+            IncidentCategory category, UUID ownerId, UUID assigneeId,
+            String tags, LocalDateTime createdAfter, LocalDateTime createdBefore,
+            LocalDateTime resolvedAfter, LocalDateTime resolvedBefore,
+            Boolean hasGithubRepo, String search) {
+
+        log.debug("Listing incidents by cursor - size: {}, sortBy: {}, status: {}", pageSize, sortBy, status);
+
+        CursorSeek seek = CursorSeek.of(cursor, sortBy, sortOrder);
+        Specification<Incident> spec = seek.apply(IncidentSpecifications.withFilters(
+                status, priority, severity, category, ownerId, assigneeId, parseTags(tags),
+                createdAfter, createdBefore, resolvedAfter, resolvedBefore, hasGithubRepo, search));
+
+        Pageable pageable = seek.pageable(pageSize);
+        Slice<Incident> result = incidentRepository.findBy(spec, query -> query.project("owner").slice(pageable));
+
+        List<Incident> content = result.getContent();
+        String nextCursor = result.hasNext()
+                ? IncidentCursor.of(content.get(content.size() - 1), seek.sortField(), seek.direction()).encode()
+                : null;
+
+        return new CursorPagedResponseDTO<>(
+                content.stream().map(mapper::toIncidentResponse).toList(),
+                CursorPaginationDTO.of(pageSize, nextCursor));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPagedResponseDTO<IncidentListItemDTO> listIncidentItemsByCursor(
+            String cursor, int pageSize, String sortBy, String sortOrder,
+            IncidentStatus status, Priority priority, Severity severity,
+            IncidentCategory category, UUID ownerId, UUID assigneeId,
+            String tags, LocalDateTime createdAfter, LocalDateTime createdBefore,
+            LocalDateTime resolvedAfter, LocalDateTime resolvedBefore,
+            Boolean hasGithubRepo, String search) {
+
+        log.debug("Listing compact incidents by cursor - size: {}, sortBy: {}, status: {}", pageSize, sortBy,
+                status);
+
+        CursorSeek seek = CursorSeek.of(cursor, sortBy, sortOrder);
+        Specification<Incident> spec = seek.apply(IncidentSpecifications.withFilters(
+                status, priority, severity, category, ownerId, assigneeId, parseTags(tags),
+                createdAfter, createdBefore, resolvedAfter, resolvedBefore, hasGithubRepo, search));
+
+        Slice<IncidentListItemDTO> result = incidentRepository.findListItemSlice(spec, seek.pageable(pageSize));
+
+        List<IncidentListItemDTO> content = result.getContent();
+        String nextCursor = result.hasNext()
+                ? IncidentCursor.of(content.get(content.size() - 1), seek.sortField(), seek.direction()).encode()
+                : null;
+
+        return new CursorPagedResponseDTO<>(content, CursorPaginationDTO.of(pageSize, nextCursor));
+    }
+
+    /** Sort and position of a cursor-paginated list, from the request or else from the cursor. */
+    private record CursorSeek(String sortField, Sort.Direction direction, IncidentCursor after) {
+
+        static CursorSeek of(String cursor, String sortBy, String sortOrder) {
+            IncidentCursor after = cursor != null ? IncidentCursor.decode(cursor) : null;
+            String sortField = sortBy != null ? sortBy : after != null ? after.sortBy() : "createdAt";
+            Sort.Direction direction = sortOrder != null ? Sort.Direction.fromString(sortOrder)
+                    : after != null ? after.direction() : Sort.Direction.DESC;
+
+            if (!IncidentCursor.SORTABLE_FIELDS.contains(sortField)) {
+                throw new IllegalArgumentException(
+                        "Cursor pagination supports sortBy: " + IncidentCursor.SORTABLE_FIELDS);
+            }
+            if (after != null && (!after.sortBy().equals(sortField) || after.direction() != direction)) {
+                throw new IllegalArgumentException("Cursor does not match the requested sortBy/sortOrder");
+            }
+            return new CursorSeek(sortField, direction, after);
+        }
+
+        Specification<Incident> apply(Specification<Incident> spec) {
+            return after == null ? spec
+                    : spec.and(IncidentSpecifications.seekAfter(sortField, direction, after.key(), after.id()));
+        }
+
+        Pageable pageable(int pageSize) {
+            return PageRequest.of(0, pageSize, Sort.by(direction, sortField, "id"));
+        }
+    }
+
     @Transactional(readOnly = true)
     public IncidentResponseDTO getIncidentById(UUID incidentId) {
         log.debug("Getting incident by id: {}", incidentId);
@@ -112,30 +207,14 @@ public class IncidentService {
 
         Set<SupportEngineer> assignees = resolveAndValidateAssignees(dto.assigneeIds(), dto.category());
 
-        Incident incident = Incident.builder()
-                .incidentNumber(generateIncidentNumber())
-                .title(dto.title())
-                .description(dto.description())
-                .status(IncidentStatus.OPEN)
-                .priority(dto.priority())
-                .severity(dto.severity())
-                .category(dto.category())
-                .tags(dto.tags() != null ? new ArrayList<>(dto.tags()) : new ArrayList<>())
-                .affectedSystems(
-                        dto.affectedSystems() != null ? new ArrayList<>(dto.affectedSystems()) : new ArrayList<>())
-                .affectedUsers(dto.affectedUsers())
-                .owner(owner)
-                .assignees(assignees)
-                .workaround(dto.workaround())
-                .githubRepo(mapper.toGitHubRepoEntity(dto.githubRepo()))
-                .dueDate(dto.dueDate())
-                .build();
+        Incident incident = newIncident(dto, owner, assignees, incidentNumberAllocator.allocate());
 
-        incident = incidentRepository.save(incident);
+        incident = incidentRepository.saveAndFlush(incident);
 
         createTimelineEvent(incident, TimelineEventType.CREATED,
                 "Incident created: " + incident.getIncidentNumber(), null, null, owner);
 
+        recordChange(incident.getId(), null, incident);
         log.info("Incident created: {} ({})", incident.getId(), incident.getIncidentNumber());
         return mapper.toIncidentResponse(incident);
     }
@@ -143,7 +222,8 @@ public class IncidentService {
     @Transactional
     public IncidentResponseDTO updateIncident(UUID incidentId, IncidentUpdateDTO dto) {
         log.info("Updating incident: {}", incidentId);
-        Incident incident = findIncidentOrThrow(incidentId);
+        Incident incident = findIncidentForUpdateOrThrow(incidentId);
+        IncidentRollupSource before = IncidentRollupSource.of(incident);
         Owner owner = ownerRepository.findById(dto.ownerId())
                 .orElseThrow(() -> new ResourceNotFoundException("Owner", dto.ownerId()));
 
@@ -151,11 +231,11 @@ public class IncidentService {
 
         // Track changes for timeline
         if (dto.status() != null && dto.status() != incident.getStatus()) {
-            createTimelineEvent(incident, TimelineEventType.STATUS_CHANGED,
+            createTimelineEvent(incident, before, TimelineEventType.STATUS_CHANGED,
                     "Status changed", incident.getStatus().getValue(), dto.status().getValue(), owner);
         }
         if (dto.priority() != incident.getPriority()) {
-            createTimelineEvent(incident, TimelineEventType.PRIORITY_CHANGED,
+            createTimelineEvent(incident, before, TimelineEventType.PRIORITY_CHANGED,
                     "Priority changed", incident.getPriority().getValue(), dto.priority().getValue(), owner);
         }
 
@@ -179,6 +259,7 @@ public class IncidentService {
         incident.setDueDate(dto.dueDate());
 
         incident = incidentRepository.save(incident);
+        recordChange(incidentId, before, incident);
         log.info("Incident updated: {}", incidentId);
         return mapper.toIncidentResponse(incident);
     }
@@ -186,7 +267,8 @@ public class IncidentService {
     @Transactional
     public IncidentResponseDTO patchIncident(UUID incidentId, IncidentPatchDTO dto) {
         log.info("Patching incident: {}", incidentId);
-        Incident incident = findIncidentOrThrow(incidentId);
+        Incident incident = findIncidentForUpdateOrThrow(incidentId);
+        IncidentRollupSource before = IncidentRollupSource.of(incident);
         Owner actor = incident.getOwner();
 
         if (dto.title() != null)
@@ -194,17 +276,17 @@ public class IncidentService {
         if (dto.description() != null)
             incident.setDescription(dto.description());
         if (dto.status() != null && dto.status() != incident.getStatus()) {
-            createTimelineEvent(incident, TimelineEventType.STATUS_CHANGED,
+            createTimelineEvent(incident, before, TimelineEventType.STATUS_CHANGED,
                     "Status changed", incident.getStatus().getValue(), dto.status().getValue(), actor);
             incident.setStatus(dto.status());
         }
         if (dto.priority() != null && dto.priority() != incident.getPriority()) {
-            createTimelineEvent(incident, TimelineEventType.PRIORITY_CHANGED,
+            createTimelineEvent(incident, before, TimelineEventType.PRIORITY_CHANGED,
                     "Priority changed", incident.getPriority().getValue(), dto.priority().getValue(), actor);
             incident.setPriority(dto.priority());
         }
         if (dto.severity() != null && dto.severity() != incident.getSeverity()) {
-            createTimelineEvent(incident, TimelineEventType.SEVERITY_CHANGED,
+            createTimelineEvent(incident, before, TimelineEventType.SEVERITY_CHANGED,
                     "Severity changed", incident.getSeverity().getValue(), dto.severity().getValue(), actor);
             incident.setSeverity(dto.severity());
         }
@@ -220,7 +302,7 @@ public class IncidentService {
             Owner newOwner = ownerRepository.findById(dto.ownerId())
                     .orElseThrow(() -> new ResourceNotFoundException("Owner", dto.ownerId()));
             if (!incident.getOwner().getId().equals(newOwner.getId())) {
-                createTimelineEvent(incident, TimelineEventType.OWNER_CHANGED,
+                createTimelineEvent(incident, before, TimelineEventType.OWNER_CHANGED,
                         "Owner changed", incident.getOwner().getName(), newOwner.getName(), actor);
                 incident.setOwner(newOwner);
             }
@@ -238,13 +320,14 @@ public class IncidentService {
             incident.setWorkaround(dto.workaround());
         if (dto.githubRepo() != null) {
             incident.setGithubRepo(mapper.toGitHubRepoEntity(dto.githubRepo()));
-            createTimelineEvent(incident, TimelineEventType.GITHUB_UPDATED,
+            createTimelineEvent(incident, before, TimelineEventType.GITHUB_UPDATED,
                     "GitHub repository information updated", null, null, actor);
         }
         if (dto.dueDate() != null)
             incident.setDueDate(dto.dueDate());
 
         incident = incidentRepository.save(incident);
+        recordChange(incidentId, before, incident);
         log.info("Incident patched: {}", incidentId);
         return mapper.toIncidentResponse(incident);
     }
@@ -252,15 +335,16 @@ public class IncidentService {
     @Transactional
     public void deleteIncident(UUID incidentId) {
         log.info("Deleting incident: {}", incidentId);
-        Incident incident = findIncidentOrThrow(incidentId);
+        Incident incident = findIncidentForUpdateOrThrow(incidentId);
+        IncidentRollupSource before = IncidentRollupSource.of(incident);
 
         // Delete related data
-        timelineEventRepository.findByIncidentIdOrderByTimestampAsc(incidentId)
-                .forEach(timelineEventRepository::delete);
-        commentRepository.findByIncidentIdOrderByCreatedAtDesc(incidentId, Pageable.unpaged())
-                .forEach(commentRepository::delete);
+        timelineEventRepository.deleteByIncidentId(incidentId);
+        timelineArchiveRepository.deleteByIncidentId(incidentId);
+        commentRepository.deleteByIncidentId(incidentId);
 
         incidentRepository.delete(incident);
+        recordChange(incidentId, before, null);
         log.info("Incident deleted: {}", incidentId);
     }
 
@@ -269,7 +353,8 @@ public class IncidentService {
     @Transactional
     public IncidentResponseDTO resolveIncident(UUID incidentId, IncidentResolutionDTO dto) {
         log.info("Resolving incident: {}", incidentId);
-        Incident incident = findIncidentOrThrow(incidentId);
+        Incident incident = findIncidentForUpdateOrThrow(incidentId);
+        IncidentRollupSource before = IncidentRollupSource.of(incident);
 
         if (incident.getStatus() == IncidentStatus.RESOLVED || incident.getStatus() == IncidentStatus.CLOSED) {
             throw new ConflictException("Incident is already " + incident.getStatus().getValue());
@@ -285,11 +370,13 @@ public class IncidentService {
             long minutes = java.time.Duration.between(incident.getCreatedAt(), incident.getResolvedAt()).toMinutes();
             incident.setTimeToResolve((int) minutes);
         }
+        lifecycleMetrics.resolved(incident);
 
-        createTimelineEvent(incident, TimelineEventType.RESOLVED,
+        createTimelineEvent(incident, before, TimelineEventType.RESOLVED,
                 "Incident resolved", previousStatus, "resolved", incident.getOwner());
 
         incident = incidentRepository.save(incident);
+        recordChange(incidentId, before, incident);
         log.info("Incident resolved: {}", incidentId);
         return mapper.toIncidentResponse(incident);
     }
@@ -297,7 +384,8 @@ public class IncidentService {
     @Transactional
     public IncidentResponseDTO closeIncident(UUID incidentId, String closingNotes) {
         log.info("Closing incident: {}", incidentId);
-        Incident incident = findIncidentOrThrow(incidentId);
+        Incident incident = findIncidentForUpdateOrThrow(incidentId);
+        IncidentRollupSource before = IncidentRollupSource.of(incident);
 
         if (incident.getStatus() != IncidentStatus.RESOLVED) {
             throw new ConflictException(
@@ -308,11 +396,12 @@ public class IncidentService {
         incident.setStatus(IncidentStatus.CLOSED);
         incident.setClosedAt(LocalDateTime.now());
 
-        createTimelineEvent(incident, TimelineEventType.CLOSED,
+        createTimelineEvent(incident, before, TimelineEventType.CLOSED,
                 closingNotes != null ? "Incident closed: " + closingNotes : "Incident closed",
                 previousStatus, "closed", incident.getOwner());
 
         incident = incidentRepository.save(incident);
+        recordChange(incidentId, before, incident);
         log.info("Incident closed: {}", incidentId);
         return mapper.toIncidentResponse(incident);
     }
@@ -320,7 +409,8 @@ public class IncidentService {
     @Transactional
     public IncidentResponseDTO reopenIncident(UUID incidentId, String reason) {
         log.info("Reopening incident: {}", incidentId);
-        Incident incident = findIncidentOrThrow(incidentId);
+        Incident incident = findIncidentForUpdateOrThrow(incidentId);
+        IncidentRollupSource before = IncidentRollupSource.of(incident);
 
         if (incident.getStatus() != IncidentStatus.RESOLVED && incident.getStatus() != IncidentStatus.CLOSED) {
             throw new ConflictException("Incident can only be reopened from resolved or closed status. Current status: "
@@ -333,10 +423,11 @@ public class IncidentService {
         incident.setClosedAt(null);
         incident.setTimeToResolve(null);
 
-        createTimelineEvent(incident, TimelineEventType.REOPENED,
+        createTimelineEvent(incident, before, TimelineEventType.REOPENED,
                 "Incident reopened: " + reason, previousStatus, "open", incident.getOwner());
 
         incident = incidentRepository.save(incident);
+        recordChange(incidentId, before, incident);
         log.info("Incident reopened: {}", incidentId);
         return mapper.toIncidentResponse(incident);
     }
@@ -344,7 +435,8 @@ public class IncidentService {
     @Transactional
     public IncidentResponseDTO assignIncident(UUID incidentId, List<UUID> assigneeIds) {
         log.info("Assigning incident: {} to {} users", incidentId, assigneeIds.size());
-        Incident incident = findIncidentOrThrow(incidentId);
+        Incident incident = findIncidentForUpdateOrThrow(incidentId);
+        IncidentRollupSource before = IncidentRollupSource.of(incident);
 
         Set<SupportEngineer> assignees = resolveAndValidateAssignees(assigneeIds, incident.getCategory());
 
@@ -358,14 +450,16 @@ public class IncidentService {
                         .toMinutes();
                 incident.setTimeToAcknowledge((int) minutes);
             }
+            lifecycleMetrics.acknowledged(incident);
         }
 
         String assigneeNames = assignees.stream().map(SupportEngineer::getName).reduce((a, b) -> a + ", " + b)
                 .orElse("");
-        createTimelineEvent(incident, TimelineEventType.ASSIGNED,
+        createTimelineEvent(incident, before, TimelineEventType.ASSIGNED,
                 "Assigned to: " + assigneeNames, null, assigneeNames, incident.getOwner());
 
         incident = incidentRepository.save(incident);
+        recordChange(incidentId, before, incident);
         log.info("Incident assigned: {}", incidentId);
         return mapper.toIncidentResponse(incident);
     }
@@ -402,6 +496,7 @@ public class IncidentService {
 
         createTimelineEvent(incident, TimelineEventType.COMMENT_ADDED,
                 "Comment added", null, null, incident.getOwner());
+        eventPublisher.publishEvent(new IncidentChangedEvent(incidentId));
 
         log.info("Comment added to incident: {}", incidentId);
         return mapper.toCommentResponse(comment);
@@ -412,12 +507,83 @@ public class IncidentService {
     @Transactional(readOnly = true)
     public List<TimelineEventDTO> getIncidentTimeline(UUID incidentId) {
         log.debug("Getting timeline for incident: {}", incidentId);
-        findIncidentOrThrow(incidentId);
+        assertIncidentExists(incidentId);
 
-        return timelineEventRepository.findByIncidentIdOrderByTimestampAsc(incidentId)
-                .stream()
-                .map(mapper::toTimelineEventDTO)
-                .toList();
+        List<TimelineEventDTO> timeline = new ArrayList<>();
+        streamIncidentTimeline(incidentId, timeline::add);
+        return timeline;
+    }
+
+    /**
+     * Archived events all precede the incident's hot rows, so a page is filled from the archives
+     * that end at or after the cursor and then from a keyset query on {@code timeline_events}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPagedResponseDTO<TimelineEventDTO> getIncidentTimelineByCursor(
+            UUID incidentId, String cursor, int pageSize) {
+        log.debug("Getting timeline page for incident: {}", incidentId);
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1");
+        }
+        assertIncidentExists(incidentId);
+        TimelineCursor after = cursor != null ? TimelineCursor.decode(cursor) : null;
+
+        List<TimelineEventDTO> page = new ArrayList<>(pageSize + 1);
+        List<TimelineArchive> archives = after != null
+                ? timelineArchiveRepository.findByIncidentIdEndingAtOrAfter(incidentId, after.timestamp())
+                : timelineArchiveRepository.findByIncidentId(incidentId);
+        for (TimelineArchive archive : archives) {
+            if (page.size() > pageSize) {
+                break;
+            }
+            List<TimelineEventDTO> events = eventsAfter(timelineArchiveService.read(archive), after);
+            page.addAll(events.subList(0, Math.min(events.size(), pageSize + 1 - page.size())));
+        }
+        if (page.size() <= pageSize) {
+            Pageable limit = PageRequest.of(0, pageSize + 1 - page.size());
+            List<TimelineEventRow> rows = after != null
+                    ? timelineEventRepository.findRowsByIncidentIdAfter(incidentId, after.timestamp(), after.id(), limit)
+                    : timelineEventRepository.findRowsByIncidentId(incidentId, limit);
+            rows.forEach(row -> page.add(mapper.toTimelineEventDTO(row)));
+        }
+
+        boolean hasNext = page.size() > pageSize;
+        List<TimelineEventDTO> content = hasNext ? page.subList(0, pageSize) : page;
+        String nextCursor = hasNext ? TimelineCursor.of(content.get(content.size() - 1)).encode() : null;
+        return new CursorPagedResponseDTO<>(List.copyOf(content), CursorPaginationDTO.of(pageSize, nextCursor));
+    }
+
+    /**
+     * Hands the timeline to {@code sink} event by event: one decompressed archive at a time, then
+     * the hot rows from a forward-only result set, so the full history is never held in memory.
+     */
+    @Transactional(readOnly = true)
+    public void streamIncidentTimeline(UUID incidentId, Consumer<TimelineEventDTO> sink) {
+        for (TimelineArchive archive : timelineArchiveRepository.findByIncidentId(incidentId)) {
+            timelineArchiveService.read(archive).forEach(sink);
+        }
+        try (Stream<TimelineEventRow> rows = timelineEventRepository.streamRowsByIncidentId(incidentId)) {
+            rows.map(mapper::toTimelineEventDTO).forEach(sink);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void assertIncidentExists(UUID incidentId) {
+        if (!incidentRepository.existsById(incidentId)) {
+            throw new ResourceNotFoundException("Incident", incidentId);
+        }
+    }
+
+    private static List<TimelineEventDTO> eventsAfter(List<TimelineEventDTO> events, TimelineCursor after) {
+        if (after == null) {
+            return events;
+        }
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).id().equals(after.id())) {
+                return events.subList(i + 1, events.size());
+            }
+        }
+        return events.stream().filter(event -> event.timestamp().isAfter(after.timestamp())).toList();
     }
 
     // ===== Owner Incidents =====
@@ -439,6 +605,21 @@ public class IncidentService {
                 PaginationDTO.of(page, pageSize, result.getTotalElements()));
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<IncidentListItemDTO> getOwnerIncidentItems(UUID ownerId, int page, int pageSize,
+            IncidentStatus status) {
+        log.debug("Getting compact incidents for owner: {}", ownerId);
+        if (!ownerRepository.existsById(ownerId)) {
+            throw new ResourceNotFoundException("Owner", ownerId);
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<IncidentListItemDTO> result = incidentRepository.findListItemsByOwnerId(ownerId, status, pageable);
+
+        return new PagedResponseDTO<>(result.getContent(),
+                PaginationDTO.of(page, pageSize, result.getTotalElements()));
+    }
+
     @Transactional(readOnly = true)
     public PagedResponseDTO<IncidentResponseDTO> getSupportEngineerAssignedIncidents(UUID supportEngineerId, int page,
             int pageSize,
@@ -457,42 +638,288 @@ public class IncidentService {
                 PaginationDTO.of(page, pageSize, result.getTotalElements()));
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<IncidentListItemDTO> getSupportEngineerAssignedIncidentItems(UUID supportEngineerId,
+            int page, int pageSize, IncidentStatus status) {
+        log.debug("Getting compact assigned incidents for support engineer: {}", supportEngineerId);
+        if (!supportEngineerRepository.existsById(supportEngineerId)) {
+            throw new ResourceNotFoundException("SupportEngineer", supportEngineerId);
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<IncidentListItemDTO> result = incidentRepository.findListItemsByAssigneeId(supportEngineerId, status,
+                pageable);
+
+        return new PagedResponseDTO<>(result.getContent(),
+                PaginationDTO.of(page, pageSize, result.getTotalElements()));
+    }
+
+    // ===== Batch =====
+
+    @Transactional
+    public IncidentBatchResultDTO createIncidents(List<IncidentCreateDTO> items) {
+        log.info("Creating batch of {} incidents", items.size());
+        IncidentBatchItemResultDTO[] results = new IncidentBatchItemResultDTO[items.size()];
+
+        // One query each for all owners and engineers referenced by the batch
+        Set<UUID> ownerIds = new HashSet<>();
+        Set<UUID> engineerIds = new HashSet<>();
+        for (IncidentCreateDTO item : items) {
+            if (item != null && item.ownerId() != null)
+                ownerIds.add(item.ownerId());
+            if (item != null && item.assigneeIds() != null)
+                engineerIds.addAll(item.assigneeIds());
+        }
+        Map<UUID, Owner> owners = new HashMap<>();
+        ownerRepository.findAllById(ownerIds).forEach(owner -> owners.put(owner.getId(), owner));
+        Map<UUID, SupportEngineer> engineers = new HashMap<>();
+        Map<UUID, Capability> capabilities = lookupCapabilities(engineerIds, engineers);
+
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Incident> incidents = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            IncidentCreateDTO item = items.get(i);
+            ErrorDTO error = validateBatchItem(item);
+            if (error == null) {
+                try {
+                    Owner owner = owners.get(item.ownerId());
+                    if (owner == null) {
+                        throw new ResourceNotFoundException("Owner", item.ownerId());
+                    }
+                    Set<SupportEngineer> assignees = new HashSet<>();
+                    if (item.assigneeIds() != null) {
+                        validateAssignees(item.assigneeIds(), item.category(), capabilities);
+                        assignees = toAssignees(item.assigneeIds(), engineers);
+                    }
+                    incidents.add(newIncident(item, owner, assignees, null));
+                    acceptedIndexes.add(i);
+                } catch (ResourceNotFoundException e) {
+                    error = ErrorDTO.of("NOT_FOUND", e.getMessage());
+                } catch (AssigneeValidationException e) {
+                    error = e.toErrorDTO();
+                }
+            }
+            if (error != null) {
+                results[i] = IncidentBatchItemResultDTO.failed(i, error);
+            }
+        }
+
+        if (!incidents.isEmpty()) {
+            List<String> numbers = incidentNumberAllocator.allocate(incidents.size());
+            for (int k = 0; k < incidents.size(); k++) {
+                incidents.get(k).setIncidentNumber(numbers.get(k));
+            }
+
+            // Inserts go out as JDBC batches at flush; the flush also sets createdAt for the rollups
+            incidentRepository.saveAll(incidents);
+            for (Incident incident : incidents) {
+                createTimelineEvent(incident, TimelineEventType.CREATED,
+                        "Incident created: " + incident.getIncidentNumber(), null, null, incident.getOwner());
+            }
+            incidentRepository.flush();
+            rollupService.recordCreated(incidents.stream().map(IncidentRollupSource::of).toList());
+
+            for (int k = 0; k < incidents.size(); k++) {
+                Incident incident = incidents.get(k);
+                int index = acceptedIndexes.get(k);
+                results[index] = IncidentBatchItemResultDTO.created(index, incident.getId(),
+                        incident.getIncidentNumber());
+                eventPublisher.publishEvent(new IncidentChangedEvent(incident.getId()));
+            }
+        }
+
+        log.info("Incident batch done: {} created, {} failed", incidents.size(), items.size() - incidents.size());
+        return new IncidentBatchResultDTO(items.size(), incidents.size(), items.size() - incidents.size(),
+                List.of(results));
+    }
+
+    /**
+     * Deletes incidents and everything attached to them with set-based statements, a fixed number
+     * per chunk of {@value #PURGE_CHUNK_SIZE} incidents.
+     */
+    @Transactional
+    public IncidentPurgeResultDTO purgeIncidents(IncidentPurgeDTO dto) {
+        boolean byIds = dto.incidentIds() != null && !dto.incidentIds().isEmpty();
+        if (byIds == (dto.closedBefore() != null)) {
+            throw new IllegalArgumentException("Specify either incidentIds or closedBefore");
+        }
+
+        List<UUID> ids;
+        List<UUID> notFound = List.of();
+        if (byIds) {
+            Set<UUID> requested = new LinkedHashSet<>(dto.incidentIds());
+            ids = incidentRepository.findIdsByIdIn(requested);
+            Set<UUID> found = new HashSet<>(ids);
+            notFound = requested.stream().filter(id -> !found.contains(id)).toList();
+        } else {
+            ids = incidentRepository.findClosedIdsBefore(dto.closedBefore());
+        }
+        log.info("Purging {} incidents", ids.size());
+
+        List<UUID> purged = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += PURGE_CHUNK_SIZE) {
+            // Incidents deleted concurrently drop out here; the rest cannot change until commit
+            List<UUID> chunk = incidentRepository.lockByIdIn(ids.subList(from, Math.min(from + PURGE_CHUNK_SIZE,
+                    ids.size())));
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            List<IncidentRollupSource> before = incidentRepository.findRollupSourcesByIdIn(chunk);
+            timelineEventRepository.deleteByIncidentIdIn(chunk);
+            timelineArchiveRepository.deleteByIncidentIdIn(chunk);
+            commentRepository.deleteByIncidentIdIn(chunk);
+            incidentRepository.deleteByIdIn(chunk);
+            rollupService.recordDeleted(before);
+            purged.addAll(chunk);
+        }
+        purged.forEach(id -> eventPublisher.publishEvent(new IncidentChangedEvent(id)));
+
+        log.info("Incidents purged: {} ({} not found)", purged.size(), notFound.size());
+        return new IncidentPurgeResultDTO(purged.size(), notFound);
+    }
+
+    private ErrorDTO validateBatchItem(IncidentCreateDTO item) {
+        if (item == null) {
+            return ErrorDTO.of("VALIDATION_ERROR", "Incident is required");
+        }
+        Set<ConstraintViolation<IncidentCreateDTO>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        List<ErrorDTO.FieldError> details = violations.stream()
+                .map(v -> new ErrorDTO.FieldError(v.getPropertyPath().toString(), v.getMessage()))
+                .sorted(Comparator.comparing(ErrorDTO.FieldError::field))
+                .toList();
+        return ErrorDTO.of("VALIDATION_ERROR", "Validation failed", details);
+    }
+
     // ===== Helpers =====
 
+    private Incident newIncident(IncidentCreateDTO dto, Owner owner, Set<SupportEngineer> assignees,
+            String incidentNumber) {
+        return Incident.builder()
+                .incidentNumber(incidentNumber)
+                .title(dto.title())
+                .description(dto.description())
+                .status(IncidentStatus.OPEN)
+                .priority(dto.priority())
+                .severity(dto.severity())
+                .category(dto.category())
+                .tags(dto.tags() != null ? new ArrayList<>(dto.tags()) : new ArrayList<>())
+                .affectedSystems(
+                        dto.affectedSystems() != null ? new ArrayList<>(dto.affectedSystems()) : new ArrayList<>())
+                .affectedUsers(dto.affectedUsers())
+                .owner(owner)
+                .assignees(assignees)
+                .workaround(dto.workaround())
+                .githubRepo(mapper.toGitHubRepoEntity(dto.githubRepo()))
+                .dueDate(dto.dueDate())
+                .build();
+    }
+
     private Incident findIncidentOrThrow(UUID incidentId) {
-        return incidentRepository.findById(incidentId)
+        return incidentRepository.findDetailedById(incidentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Incident", incidentId));
+    }
+
+    /**
+     * Loads the incident under its row lock, before anything else of it is read in the transaction.
+     * Concurrent writes to one incident then take turns and each sees the state the previous one
+     * committed, so the rollup delta is taken from the state actually replaced.
+     */
+    private Incident findIncidentForUpdateOrThrow(UUID incidentId) {
+        incidentRepository.lockById(incidentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Incident", incidentId));
+        return findIncidentOrThrow(incidentId);
+    }
+
+    private static List<String> parseTags(String tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return Arrays.stream(tags.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
     }
 
     private Set<SupportEngineer> resolveAndValidateAssignees(List<UUID> assigneeIds, IncidentCategory category) {
-        Set<SupportEngineer> assignees = new HashSet<>();
-        if (assigneeIds != null) {
-            for (UUID assigneeId : assigneeIds) {
-                SupportEngineer se = supportEngineerRepository.findById(assigneeId)
-                        .orElseThrow(() -> new ResourceNotFoundException("SupportEngineer", assigneeId));
-                if (!se.getCategories().contains(category)) {
-                    throw new ConflictException(
-                            "Support engineer '" + se.getName() + "' cannot be assigned to incidents of category '"
-                                    + category.getValue() + "'. Their categories: " + se.getCategories());
-                }
-                assignees.add(se);
+        if (assigneeIds == null || assigneeIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        Map<UUID, SupportEngineer> loaded = new HashMap<>();
+        Map<UUID, Capability> capabilities = lookupCapabilities(assigneeIds, loaded);
+        validateAssignees(assigneeIds, category, capabilities);
+        return toAssignees(assigneeIds, loaded);
+    }
+
+    /**
+     * Resolves capabilities from the index and loads the engineers it does not know yet, with their
+     * categories, in a single query. Engineers that had to be loaded are added to {@code loaded}.
+     */
+    private Map<UUID, Capability> lookupCapabilities(Collection<UUID> ids, Map<UUID, SupportEngineer> loaded) {
+        Map<UUID, Capability> capabilities = new HashMap<>();
+        Set<UUID> misses = new HashSet<>();
+        for (UUID id : ids) {
+            capabilityIndex.find(id).ifPresentOrElse(c -> capabilities.put(id, c), () -> misses.add(id));
+        }
+        if (!misses.isEmpty()) {
+            long stamp = capabilityIndex.stamp();
+            for (SupportEngineer se : supportEngineerRepository.findAllWithCategoriesByIdIn(misses)) {
+                loaded.put(se.getId(), se);
+                capabilities.put(se.getId(), capabilityIndex.register(se, stamp));
+            }
+        }
+        return capabilities;
+    }
+
+    private static void validateAssignees(List<UUID> assigneeIds, IncidentCategory category,
+            Map<UUID, Capability> capabilities) {
+        List<UUID> missing = new ArrayList<>();
+        List<String> conflicts = new ArrayList<>();
+        for (UUID id : new LinkedHashSet<>(assigneeIds)) {
+            Capability capability = capabilities.get(id);
+            if (capability == null) {
+                missing.add(id);
+            } else if (!capability.canHandle(category)) {
+                conflicts.add("Support engineer '" + capability.name()
+                        + "' cannot be assigned to incidents of category '" + category.getValue()
+                        + "'. Their categories: " + capability.categories());
             }
         }
+        if (!missing.isEmpty() || !conflicts.isEmpty()) {
+            throw new AssigneeValidationException(missing, conflicts);
+        }
+    }
+
+    /** Engineers validated from the index are attached as references, so no row is read for them. */
+    private Set<SupportEngineer> toAssignees(List<UUID> assigneeIds, Map<UUID, SupportEngineer> loaded) {
+        Set<SupportEngineer> assignees = new HashSet<>();
+        for (UUID id : assigneeIds) {
+            SupportEngineer se = loaded.get(id);
+            assignees.add(se != null ? se : supportEngineerRepository.getReferenceById(id));
+        }
         return assignees;
     }
 
+    private void recordChange(UUID incidentId, IncidentRollupSource before, Incident after) {
+        rollupService.record(before, after != null ? IncidentRollupSource.of(after) : null);
+        eventPublisher.publishEvent(new IncidentChangedEvent(incidentId));
+    }
+
     private void createTimelineEvent(Incident incident, TimelineEventType eventType,
             String description, String previousValue,
             String newValue, Owner actor) {
-        TimelineEvent event = TimelineEvent.builder()
-                .incident(incident)
-                .eventType(eventType)
-                .description(description)
-                .previousValue(previousValue)
-                .newValue(newValue)
-                .actor(actor)
-                .timestamp(LocalDateTime.now())
-                .build();
-        timelineEventRepository.save(event);
+        createTimelineEvent(incident, null, eventType, description, previousValue, newValue, actor);
+    }
+
+    /** {@code before} is the incident as loaded by a change, so stream filters also see where it came from. */
+    private void createTimelineEvent(Incident incident, IncidentRollupSource before, TimelineEventType eventType,
+            String description, String previousValue,
+            String newValue, Owner actor) {
+        timelineEventWriter.append(new TimelineEventWriter.Entry(UUID.randomUUID(), incident.getId(), eventType, description,
+                previousValue, newValue, actor != null ? actor.getId() : null, LocalDateTime.now(),
+                before != null ? IncidentFilterFields.of(before) : null));
     }
 }
@@ -0,0 +1,306 @@
+package com.incidentnow.service;
+
+import com.incidentnow.dto.IncidentListItemDTO;
+import com.incidentnow.dto.IncidentStreamEventDTO;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.IncidentStatus;
+import com.incidentnow.model.Priority;
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.repository.TimelineEventRepository;
+import com.incidentnow.repository.TimelineEventRow;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes committed incident changes to server-sent event subscribers.
+ * <p>
+ * Every timeline event becomes one SSE event whose id is the event's {@link TimelineCursor}, so a
+ * client reconnecting with {@code Last-Event-ID} is first replayed what it missed from
+ * {@code timeline_events} and then continues live. Event timestamps are taken when the event is
+ * appended, not when its transaction commits, so an event can become visible after a later-stamped
+ * one the client already has; the replay therefore starts {@code app.stream.resume-overlap} before
+ * the last event id. Delivery is at-least-once and clients drop event ids they have already seen.
+ * Each subscriber has a bounded buffer; a subscriber that falls behind far enough to fill it is
+ * disconnected and can resume from its last event id.
+ */
+@Service
+public class IncidentStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentStreamService.class);
+
+    private static final int REPLAY_PAGE_SIZE = 500;
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    /**
+     * Selects the events of incidents that match, and of incidents that matched before the change
+     * the event records, so a subscriber also sees an incident leave its selection.
+     */
+    public record Filter(IncidentStatus status, Priority priority, IncidentCategory category, UUID ownerId) {
+
+        boolean matches(IncidentListItemDTO incident, IncidentFilterFields before) {
+            return matches(IncidentFilterFields.of(incident)) || before != null && matches(before);
+        }
+
+        private boolean matches(IncidentFilterFields incident) {
+            return (status == null || status == incident.status())
+                    && (priority == null || priority == incident.priority())
+                    && (category == null || category == incident.category())
+                    && (ownerId == null || ownerId.equals(incident.ownerId()));
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Filter filter;
+        private final BlockingQueue<IncidentStreamEventDTO> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile TimelineCursor replayFrom;
+        private volatile boolean heartbeatDue;
+        private Set<UUID> replayed = Set.of();
+
+        private Subscriber(SseEmitter emitter, Filter filter, TimelineCursor replayFrom) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+            this.replayFrom = replayFrom;
+        }
+
+        /** Runs on the sender pool, at most once at a time per subscriber. */
+        private void drain() {
+            try {
+                if (replayFrom != null) {
+                    replayed = replay(this, replayFrom);
+                    replayFrom = null;
+                }
+                if (heartbeatDue) {
+                    heartbeatDue = false;
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                }
+                IncidentStreamEventDTO event;
+                while ((event = buffer.poll()) != null) {
+                    if (!replayed.isEmpty() && replayed.remove(event.eventId())) {
+                        continue;
+                    }
+                    send(this, event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(this);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (!buffer.isEmpty() || heartbeatDue) {
+                schedule(this);
+            }
+        }
+    }
+
+    private final IncidentRepository incidentRepository;
+    private final TimelineEventRepository timelineEventRepository;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Duration resumeOverlap;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "incident-stream-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Senders block on slow clients' sockets
+    private final ExecutorService senders;
+
+    public IncidentStreamService(IncidentRepository incidentRepository,
+            TimelineEventRepository timelineEventRepository,
+            @Value("${app.stream.buffer-size:256}") int bufferSize,
+            @Value("${app.stream.timeout:30m}") Duration timeout,
+            @Value("${app.stream.resume-overlap:1m}") Duration resumeOverlap,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.incidentRepository = incidentRepository;
+        this.timelineEventRepository = timelineEventRepository;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.resumeOverlap = resumeOverlap;
+        this.senders = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("incident-stream-sender-", 0).factory())
+                : Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "incident-stream-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public SseEmitter subscribe(Filter filter, String lastEventId) {
+        TimelineCursor replayFrom = lastEventId != null && !lastEventId.isBlank()
+                ? TimelineCursor.decode(lastEventId)
+                : null;
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, filter, replayFrom);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.info("Stream subscriber added ({} active), filter: {}, resume: {}", subscribers.size(), filter,
+                replayFrom != null);
+        if (replayFrom != null) {
+            schedule(subscriber);
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onTimelineEventsCommitted(TimelineEventsCommittedEvent committed) {
+        if (!subscribers.isEmpty()) {
+            dispatcher.execute(() -> dispatch(committed.entries()));
+        }
+    }
+
+    @Scheduled(fixedRate = 20_000)
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }
+    }
+
+    private void dispatch(List<TimelineEventWriter.Entry> entries) {
+        try {
+            Map<UUID, IncidentListItemDTO> incidents = loadIncidents(
+                    entries.stream().map(TimelineEventWriter.Entry::incidentId).collect(Collectors.toSet()));
+            for (TimelineEventWriter.Entry entry : entries) {
+                IncidentListItemDTO incident = incidents.get(entry.incidentId());
+                if (incident != null) {
+                    publish(new IncidentStreamEventDTO(entry.id(), entry.eventType(), entry.description(),
+                            entry.previousValue(), entry.newValue(), entry.actorId(), entry.timestamp(), incident),
+                            entry.before());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch {} incident stream events", entries.size(), e);
+        }
+    }
+
+    private void publish(IncidentStreamEventDTO event, IncidentFilterFields before) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.filter.matches(event.incident(), before)) {
+                continue;
+            }
+            if (!subscriber.buffer.offer(event)) {
+                log.warn("Dropping slow stream subscriber ({} events buffered)", subscriber.buffer.size());
+                unsubscribe(subscriber);
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Sends the events stamped after {@code from} less the resume overlap, except {@code from} itself,
+     * page by page, and returns their ids so the live events queued in the meantime are not sent twice.
+     */
+    private Set<UUID> replay(Subscriber subscriber, TimelineCursor from) throws IOException {
+        Set<UUID> sent = new HashSet<>();
+        sent.add(from.id());
+        TimelineCursor position = new TimelineCursor(from.timestamp().minus(resumeOverlap), MIN_ID);
+        List<TimelineEventRow> rows;
+        do {
+            rows = timelineEventRepository.findRowsAfter(position.timestamp(), position.id(),
+                    PageRequest.of(0, REPLAY_PAGE_SIZE));
+            Map<UUID, IncidentListItemDTO> incidents = loadIncidents(
+                    rows.stream().map(TimelineEventRow::incidentId).collect(Collectors.toSet()));
+            for (TimelineEventRow row : rows) {
+                IncidentListItemDTO incident = incidents.get(row.incidentId());
+                if (incident != null && subscriber.filter.matches(incident, before(row, incident))
+                        && sent.add(row.id())) {
+                    send(subscriber, new IncidentStreamEventDTO(row.id(), row.eventType(), row.description(),
+                            row.previousValue(), row.newValue(), row.actorId(), row.timestamp(), incident));
+                }
+            }
+            if (!rows.isEmpty()) {
+                TimelineEventRow last = rows.get(rows.size() - 1);
+                position = new TimelineCursor(last.timestamp(), last.id());
+            }
+        } while (rows.size() == REPLAY_PAGE_SIZE);
+        return sent;
+    }
+
+    /**
+     * What a stored event tells about the incident before it: the previous status of a status change
+     * and the previous priority of a priority change. The timeline does not record the owner or
+     * category an incident had, nor the status an assignment moved it from, so a replay can miss an
+     * incident leaving a filter through those.
+     */
+    private static IncidentFilterFields before(TimelineEventRow row, IncidentListItemDTO incident) {
+        if (row.previousValue() == null) {
+            return null;
+        }
+        return switch (row.eventType()) {
+            case STATUS_CHANGED, RESOLVED, CLOSED, REOPENED -> new IncidentFilterFields(
+                    IncidentStatus.fromValue(row.previousValue()), incident.priority(), incident.category(),
+                    incident.ownerId());
+            case PRIORITY_CHANGED -> new IncidentFilterFields(incident.status(),
+                    Priority.fromValue(row.previousValue()), incident.category(), incident.ownerId());
+            default -> null;
+        };
+    }
+
+    private Map<UUID, IncidentListItemDTO> loadIncidents(Set<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return incidentRepository.findListItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(IncidentListItemDTO::id, Function.identity()));
+    }
+
+    private void send(Subscriber subscriber, IncidentStreamEventDTO event) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+                .id(new TimelineCursor(event.timestamp(), event.eventId()).encode())
+                .name(event.eventType().getValue())
+                .data(event));
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(subscriber::drain);
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    /** Ends open streams before the web server's graceful shutdown would wait on them. */
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        subscribers.forEach(this::unsubscribe);
+    }
+
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+    }
+}
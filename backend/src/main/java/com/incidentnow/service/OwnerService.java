@@ -9,6 +9,7 @@ import com.incidentnow.exception.ResourceNotFoundException;
 import com.incidentnow.model.OwnerRole;
 import com.incidentnow.repository.IncidentRepository;
 import com.incidentnow.repository.OwnerRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.UUID;
 
 @Service
+@Timed("incidentnow.service")
 @RequiredArgsConstructor
 public class OwnerService {
 
@@ -0,0 +1,112 @@
+package com.incidentnow.service;
+
+import com.incidentnow.repository.IncidentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Base for allocators that draw from one database sequence per year. {@code nextval} is not
+ * transactional and runs on the caller's connection, so allocation never needs a second
+ * connection or an application lock.
+ * <p>
+ * Sequences for this year and the next are created on startup, seeded after the highest
+ * number already stored. Creating one later (an instance running across two new years)
+ * happens in its own transaction because DDL may commit implicitly.
+ */
+abstract class SequenceBackedIncidentNumberAllocator implements IncidentNumberAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceBackedIncidentNumberAllocator.class);
+
+    private final IncidentRepository incidentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final Dialect dialect;
+    private final String sequencePrefix;
+    private final int incrementSize;
+
+    private final Set<Integer> preparedYears = ConcurrentHashMap.newKeySet();
+    // Not synchronized: a virtual thread blocking on JDBC inside a monitor would pin its carrier
+    private final ReentrantLock prepareLock = new ReentrantLock();
+
+    protected SequenceBackedIncidentNumberAllocator(IncidentRepository incidentRepository,
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory, String sequencePrefix, int incrementSize) {
+        this.incidentRepository = incidentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.sequencePrefix = sequencePrefix;
+        this.incrementSize = incrementSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initSequences() {
+        int year = Year.now().getValue();
+        prepare(year);
+        prepare(year + 1);
+    }
+
+    /**
+     * Next value of {@code year}'s sequence; consecutive calls differ by the increment size.
+     */
+    protected long nextValue(int year) {
+        if (!preparedYears.contains(year)) {
+            prepare(year);
+        }
+        return jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString(sequencePrefix + year), Long.class);
+    }
+
+    /**
+     * {@code count} values of {@code year}'s sequence in one round trip, in increasing order.
+     */
+    protected List<Long> nextValues(int year, int count) {
+        if (!preparedYears.contains(year)) {
+            prepare(year);
+        }
+        // SYSTEM_RANGE is H2's row generator; NEXT VALUE FOR is evaluated once per row
+        List<Long> values = new ArrayList<>(jdbcTemplate.queryForList("SELECT "
+                + dialect.getSequenceSupport().getSelectSequenceNextValString(sequencePrefix + year)
+                + " FROM SYSTEM_RANGE(1, ?)", Long.class, count));
+        Collections.sort(values);
+        return values;
+    }
+
+    private void prepare(int year) {
+        prepareLock.lock();
+        try {
+            if (preparedYears.contains(year)) {
+                return;
+            }
+            String sequenceName = sequencePrefix + year;
+            long start = newTransaction.execute(status -> {
+                long first = IncidentNumberAllocator.maxSequence(incidentRepository, year) + 1;
+                jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequenceName
+                        + " START WITH " + first + " INCREMENT BY " + incrementSize);
+                return first;
+            });
+            preparedYears.add(year);
+            log.info("Using incident number sequence {} (starts at {} if newly created)", sequenceName, start);
+        } finally {
+            prepareLock.unlock();
+        }
+    }
+}
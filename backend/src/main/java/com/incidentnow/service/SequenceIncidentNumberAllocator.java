@@ -0,0 +1,42 @@
+package com.incidentnow.service;
+
+import com.incidentnow.repository.IncidentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Year;
+import java.util.List;
+
+/**
+ * One {@code nextval} per incident from {@code incident_number_seq_<year>}; a batch draws all
+ * its values in a single statement. Numbers are unique and increasing across all instances;
+ * numbers of rolled-back creates are skipped.
+ */
+@Component
+@ConditionalOnProperty(name = "app.incidents.number-allocator", havingValue = "sequence", matchIfMissing = true)
+public class SequenceIncidentNumberAllocator extends SequenceBackedIncidentNumberAllocator {
+
+    public SequenceIncidentNumberAllocator(IncidentRepository incidentRepository, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory) {
+        super(incidentRepository, jdbcTemplate, transactionManager, entityManagerFactory,
+                "incident_number_seq_", 1);
+    }
+
+    @Override
+    public String allocate() {
+        int year = Year.now().getValue();
+        return IncidentNumberAllocator.format(year, nextValue(year));
+    }
+
+    @Override
+    public List<String> allocate(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        int year = Year.now().getValue();
+        return nextValues(year, count).stream().map(value -> IncidentNumberAllocator.format(year, value)).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.incidentnow.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived snapshots of statistics results, keyed by query and window. Every committed
+ * incident change drops all snapshots, so a dashboard sees fresh numbers after a write and
+ * the TTL only bounds staleness for changes made outside {@link IncidentService}.
+ */
+@Component
+public class StatisticsCache {
+
+    private static final Logger log = LoggerFactory.getLogger(StatisticsCache.class);
+
+    private static final int MAX_ENTRIES = 512;
+
+    private final Map<Object, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+
+    public StatisticsCache(@Value("${app.statistics.cache-ttl:10s}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Supplier<T> loader) {
+        long now = System.nanoTime();
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && now - snapshot.createdAt() < ttlNanos) {
+            return (T) snapshot.value();
+        }
+
+        // Only store the result if no invalidation happened while it was being computed
+        long startGeneration = generation.get();
+        T value = loader.get();
+        if (ttlNanos > 0 && generation.get() == startGeneration) {
+            if (snapshots.size() >= MAX_ENTRIES) {
+                snapshots.clear();
+            }
+            snapshots.put(key, new Snapshot(value, now));
+        }
+        return value;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIncidentChanged(IncidentChangedEvent event) {
+        log.debug("Invalidating statistics snapshots after change to incident {}", event.incidentId());
+        invalidate();
+    }
+
+    private record Snapshot(Object value, long createdAt) {
+    }
+}
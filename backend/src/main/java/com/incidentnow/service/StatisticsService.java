@@ -2,11 +2,10 @@ package com.incidentnow.service;
 
 import com.incidentnow.config.DtoMapper;
 import com.incidentnow.dto.*;
-import com.incidentnow.entity.Incident;
 import com.incidentnow.entity.Owner;
 import com.incidentnow.model.*;
-import com.incidentnow.repository.IncidentRepository;
-import com.incidentnow.repository.OwnerRepository;
+import com.incidentnow.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,129 +18,179 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("incidentnow.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StatisticsService {
 
     private static final Logger log = LoggerFactory.getLogger(StatisticsService.class);
 
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:00");
+
     private final IncidentRepository incidentRepository;
+    private final IncidentRollupRepository rollupRepository;
     private final OwnerRepository ownerRepository;
+    private final StatisticsCache statisticsCache;
     private final DtoMapper mapper;
 
     public IncidentSummaryDTO getIncidentSummary(LocalDate from, LocalDate to) {
         log.debug("Getting incident summary from {} to {}", from, to);
+        return statisticsCache.get(new WindowKey("summary", from, to), () -> computeIncidentSummary(from, to));
+    }
+
+    private IncidentSummaryDTO computeIncidentSummary(LocalDate from, LocalDate to) {
+        List<RollupCountRow> rows = rollupRepository.sumByValue(RollupGranularity.DAY,
+                List.of(RollupMetric.CREATED, RollupMetric.STATUS, RollupMetric.PRIORITY,
+                        RollupMetric.SLA_BREACHED, RollupMetric.RESOLUTION_TIME, RollupMetric.ACKNOWLEDGE_TIME),
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null);
 
-        long total = incidentRepository.count();
-        long open = incidentRepository.countByStatus(IncidentStatus.OPEN);
-        long inProgress = incidentRepository.countByStatus(IncidentStatus.IN_PROGRESS);
-        long onHold = incidentRepository.countByStatus(IncidentStatus.ON_HOLD);
-        long resolved = incidentRepository.countByStatus(IncidentStatus.RESOLVED);
-        long closed = incidentRepository.countByStatus(IncidentStatus.CLOSED);
-        long critical = incidentRepository.countByPriority(Priority.CRITICAL);
-        Double avgResolution = incidentRepository.averageResolutionTime();
-        Double avgAcknowledge = incidentRepository.averageTimeToAcknowledge();
-        long slaBreaches = incidentRepository.countBySlaBreached(true);
+        Map<String, RollupCountRow> byKey = rows.stream()
+                .collect(Collectors.toMap(row -> row.metric() + ":" + row.value(), Function.identity()));
+
+        long total = count(byKey, RollupMetric.CREATED, "");
+        long slaBreaches = count(byKey, RollupMetric.SLA_BREACHED, "");
         double slaCompliance = total > 0 ? ((double) (total - slaBreaches) / total) * 100 : 100.0;
 
-        return new IncidentSummaryDTO(total, open, inProgress, onHold, resolved, closed,
-                critical, avgResolution, avgAcknowledge, slaBreaches, slaCompliance);
+        return new IncidentSummaryDTO(total,
+                count(byKey, RollupMetric.STATUS, IncidentStatus.OPEN.name()),
+                count(byKey, RollupMetric.STATUS, IncidentStatus.IN_PROGRESS.name()),
+                count(byKey, RollupMetric.STATUS, IncidentStatus.ON_HOLD.name()),
+                count(byKey, RollupMetric.STATUS, IncidentStatus.RESOLVED.name()),
+                count(byKey, RollupMetric.STATUS, IncidentStatus.CLOSED.name()),
+                count(byKey, RollupMetric.PRIORITY, Priority.CRITICAL.name()),
+                average(byKey.get(RollupMetric.RESOLUTION_TIME + ":")),
+                average(byKey.get(RollupMetric.ACKNOWLEDGE_TIME + ":")),
+                slaBreaches, slaCompliance);
     }
 
     public List<StatusCountDTO> getIncidentsByStatus() {
         log.debug("Getting incidents by status");
-        return incidentRepository.countGroupByStatus().stream()
-                .map(row -> new StatusCountDTO((IncidentStatus) row[0], (Long) row[1]))
+        return sumAllTime(RollupMetric.STATUS).stream()
+                .map(row -> new StatusCountDTO(IncidentStatus.valueOf(row.value()), row.count()))
                 .toList();
     }
 
     public List<PriorityCountDTO> getIncidentsByPriority() {
         log.debug("Getting incidents by priority");
-        return incidentRepository.countGroupByPriority().stream()
-                .map(row -> new PriorityCountDTO((Priority) row[0], (Long) row[1]))
+        return sumAllTime(RollupMetric.PRIORITY).stream()
+                .map(row -> new PriorityCountDTO(Priority.valueOf(row.value()), row.count()))
                 .toList();
     }
 
     public List<CategoryCountDTO> getIncidentsByCategory() {
         log.debug("Getting incidents by category");
-        return incidentRepository.countGroupByCategory().stream()
-                .map(row -> new CategoryCountDTO((IncidentCategory) row[0], (Long) row[1]))
+        return sumAllTime(RollupMetric.CATEGORY).stream()
+                .map(row -> new CategoryCountDTO(IncidentCategory.valueOf(row.value()), row.count()))
                 .toList();
     }
 
     public List<OwnerCountDTO> getIncidentsByOwner(int limit) {
         log.debug("Getting incidents by owner, limit: {}", limit);
-        List<Owner> owners = ownerRepository.findAll(PageRequest.of(0, limit)).getContent();
-
-        return owners.stream()
-                .map(owner -> {
-                    long total = incidentRepository.countByOwnerId(owner.getId());
-                    long openCount = incidentRepository.countByOwnerIdAndStatus(owner.getId(), IncidentStatus.OPEN);
-                    long resolvedCount = incidentRepository.countByOwnerIdAndStatus(owner.getId(),
-                            IncidentStatus.RESOLVED);
-                    return new OwnerCountDTO(mapper.toOwnerSummary(owner), total, openCount, resolvedCount);
+        List<RollupCountRow> top = rollupRepository.topValues(RollupGranularity.DAY, RollupMetric.OWNER,
+                PageRequest.of(0, limit));
+        if (top.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<UUID> ownerIds = top.stream().map(row -> UUID.fromString(row.value())).toList();
+        Map<UUID, Owner> owners = ownerRepository.findAllById(ownerIds).stream()
+                .collect(Collectors.toMap(Owner::getId, Function.identity()));
+
+        List<String> statusKeys = new ArrayList<>();
+        for (UUID ownerId : ownerIds) {
+            statusKeys.add(IncidentRollupService.ownerStatusValue(ownerId, IncidentStatus.OPEN.name()));
+            statusKeys.add(IncidentRollupService.ownerStatusValue(ownerId, IncidentStatus.RESOLVED.name()));
+        }
+        Map<String, Long> statusCounts = rollupRepository
+                .sumForValues(RollupGranularity.DAY, RollupMetric.OWNER_STATUS, statusKeys).stream()
+                .collect(Collectors.toMap(RollupCountRow::value, RollupCountRow::count));
+
+        return top.stream()
+                .filter(row -> owners.containsKey(UUID.fromString(row.value())))
+                .map(row -> {
+                    UUID ownerId = UUID.fromString(row.value());
+                    return new OwnerCountDTO(mapper.toOwnerSummary(owners.get(ownerId)), row.count(),
+                            statusCounts.getOrDefault(
+                                    IncidentRollupService.ownerStatusValue(ownerId, IncidentStatus.OPEN.name()), 0L),
+                            statusCounts.getOrDefault(
+                                    IncidentRollupService.ownerStatusValue(ownerId, IncidentStatus.RESOLVED.name()),
+                                    0L));
                 })
-                .sorted((a, b) -> Long.compare(b.totalIncidents(), a.totalIncidents()))
                 .toList();
     }
 
     public ResolutionTimeStatsDTO getResolutionTimeStats(LocalDate from, LocalDate to, String groupBy) {
         log.debug("Getting resolution time stats from {} to {}, groupBy: {}", from, to, groupBy);
+        String effectiveGroupBy = groupBy != null ? groupBy : "week";
+        return statisticsCache.get(new WindowKey("resolution-time:" + effectiveGroupBy, from, to),
+                () -> computeResolutionTimeStats(from, to, effectiveGroupBy));
+    }
+
+    private ResolutionTimeStatsDTO computeResolutionTimeStats(LocalDate from, LocalDate to, String groupBy) {
+        LocalDateTime fromDate = from != null ? from.atStartOfDay() : null;
+        LocalDateTime toDate = to != null ? to.plusDays(1).atStartOfDay() : null;
 
-        List<Integer> resolutionTimes = incidentRepository.findAllResolutionTimes();
-        if (resolutionTimes.isEmpty()) {
-            return new ResolutionTimeStatsDTO(0.0, 0.0, 0, 0, 0.0, Collections.emptyList());
+        // Percentiles need the individual values, so they are still computed from the incidents table
+        ResolutionTimeRow stats = incidentRepository.resolutionTimeStats(fromDate, toDate);
+        if (stats.count() == 0) {
+            return new ResolutionTimeStatsDTO(0.0, 0.0, 0, 0, 0.0, 0.0, 0.0, Collections.emptyList());
         }
 
-        double avg = resolutionTimes.stream().mapToInt(Integer::intValue).average().orElse(0);
-        int min = resolutionTimes.stream().mapToInt(Integer::intValue).min().orElse(0);
-        int max = resolutionTimes.stream().mapToInt(Integer::intValue).max().orElse(0);
+        RollupGranularity granularity = granularityFor(groupBy);
+        List<RollupBucketRow> buckets = rollupRepository.sumByBucket(granularity, List.of(RollupMetric.RESOLVED),
+                fromDate, toDate);
 
-        double median;
-        int size = resolutionTimes.size();
-        if (size % 2 == 0) {
-            median = (resolutionTimes.get(size / 2 - 1) + resolutionTimes.get(size / 2)) / 2.0;
-        } else {
-            median = resolutionTimes.get(size / 2);
+        Map<String, long[]> periods = new TreeMap<>();
+        for (RollupBucketRow bucket : buckets) {
+            long[] totals = periods.computeIfAbsent(getPeriodKey(bucket.bucketStart(), groupBy), k -> new long[2]);
+            totals[0] += bucket.count();
+            totals[1] += bucket.totalMinutes();
         }
+        List<ResolutionTimeStatsDTO.PeriodData> data = periods.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] > 0)
+                .map(entry -> new ResolutionTimeStatsDTO.PeriodData(entry.getKey(),
+                        (double) entry.getValue()[1] / entry.getValue()[0], entry.getValue()[0]))
+                .toList();
 
-        int p90Index = (int) Math.ceil(size * 0.9) - 1;
-        double p90 = p90Index >= 0 && p90Index < size ? resolutionTimes.get(p90Index) : 0;
-
-        return new ResolutionTimeStatsDTO(avg, median, min, max, p90, Collections.emptyList());
+        return new ResolutionTimeStatsDTO(stats.average(), stats.p50(), stats.min(), stats.max(),
+                stats.p90(), stats.p95(), stats.p99(), data);
     }
 
     public List<TrendDataDTO> getIncidentTrends(LocalDate from, LocalDate to, String groupBy) {
         log.debug("Getting incident trends from {} to {}, groupBy: {}", from, to, groupBy);
-
-        LocalDateTime fromDate = from != null ? from.atStartOfDay() : LocalDate.now().minusMonths(3).atStartOfDay();
-        LocalDateTime toDate = to != null ? to.atTime(23, 59, 59) : LocalDateTime.now();
-
-        List<Incident> incidents = incidentRepository.findByCreatedAtBetween(fromDate, toDate);
-
         String effectiveGroupBy = groupBy != null ? groupBy : "week";
+        return statisticsCache.get(new WindowKey("trends:" + effectiveGroupBy, from, to),
+                () -> computeIncidentTrends(from, to, effectiveGroupBy));
+    }
 
-        Map<String, long[]> trendsMap = new TreeMap<>();
-
-        for (Incident incident : incidents) {
-            String period = getPeriodKey(incident.getCreatedAt(), effectiveGroupBy);
-            trendsMap.computeIfAbsent(period, k -> new long[3]);
-            trendsMap.get(period)[0]++; // created
+    private List<TrendDataDTO> computeIncidentTrends(LocalDate from, LocalDate to, String groupBy) {
+        LocalDate fromDay = from != null ? from : LocalDate.now().minusMonths(3);
+        LocalDate toDay = to != null ? to : LocalDate.now();
+        LocalDateTime fromDate = fromDay.atStartOfDay();
+        LocalDateTime toDate = toDay.plusDays(1).atStartOfDay();
+        RollupGranularity granularity = granularityFor(groupBy);
 
-            if (incident.getResolvedAt() != null) {
-                String resolvedPeriod = getPeriodKey(incident.getResolvedAt(), effectiveGroupBy);
-                trendsMap.computeIfAbsent(resolvedPeriod, k -> new long[3]);
-                trendsMap.get(resolvedPeriod)[1]++; // resolved
-            }
+        // Zero-filled buckets for every period in the window: created, resolved, closed
+        Map<String, long[]> trendsMap = new TreeMap<>();
+        for (LocalDateTime bucket = fromDate; bucket.isBefore(toDate); bucket = next(bucket, granularity)) {
+            trendsMap.computeIfAbsent(getPeriodKey(bucket, groupBy), k -> new long[3]);
+        }
 
-            if (incident.getClosedAt() != null) {
-                String closedPeriod = getPeriodKey(incident.getClosedAt(), effectiveGroupBy);
-                trendsMap.computeIfAbsent(closedPeriod, k -> new long[3]);
-                trendsMap.get(closedPeriod)[2]++; // closed
-            }
+        List<RollupBucketRow> buckets = rollupRepository.sumByBucket(granularity,
+                List.of(RollupMetric.CREATED, RollupMetric.RESOLVED, RollupMetric.CLOSED), fromDate, toDate);
+        for (RollupBucketRow bucket : buckets) {
+            int index = switch (bucket.metric()) {
+                case CREATED -> 0;
+                case RESOLVED -> 1;
+                default -> 2;
+            };
+            trendsMap.computeIfAbsent(getPeriodKey(bucket.bucketStart(), groupBy), k -> new long[3])[index] +=
+                    bucket.count();
         }
 
         return trendsMap.entrySet().stream()
@@ -150,8 +199,30 @@ public class StatisticsService {
                 .toList();
     }
 
+    private List<RollupCountRow> sumAllTime(RollupMetric metric) {
+        return rollupRepository.sumByValue(RollupGranularity.DAY, List.of(metric), null, null);
+    }
+
+    private static long count(Map<String, RollupCountRow> byKey, RollupMetric metric, String value) {
+        RollupCountRow row = byKey.get(metric + ":" + value);
+        return row != null ? row.count() : 0;
+    }
+
+    private static Double average(RollupCountRow row) {
+        return row != null && row.count() > 0 ? (double) row.totalMinutes() / row.count() : null;
+    }
+
+    private static RollupGranularity granularityFor(String groupBy) {
+        return "hour".equals(groupBy) ? RollupGranularity.HOUR : RollupGranularity.DAY;
+    }
+
+    private static LocalDateTime next(LocalDateTime bucket, RollupGranularity granularity) {
+        return granularity == RollupGranularity.HOUR ? bucket.plusHours(1) : bucket.plusDays(1);
+    }
+
     private String getPeriodKey(LocalDateTime dateTime, String groupBy) {
         return switch (groupBy) {
+            case "hour" -> dateTime.format(HOUR_FORMAT);
             case "day" -> dateTime.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
             case "week" -> {
                 int week = dateTime.get(ChronoField.ALIGNED_WEEK_OF_YEAR);
@@ -161,4 +232,7 @@ public class StatisticsService {
             default -> dateTime.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
         };
     }
+
+    private record WindowKey(String query, LocalDate from, LocalDate to) {
+    }
 }
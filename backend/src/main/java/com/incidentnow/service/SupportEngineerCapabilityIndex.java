@@ -0,0 +1,86 @@
+package com.incidentnow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.incidentnow.entity.SupportEngineer;
+import com.incidentnow.model.IncidentCategory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory engineer → category index used to validate assignments without going to the database.
+ * Entries are filled on first lookup and dropped once a change to the engineer commits on this
+ * instance. Changes committed by other instances are not seen, so entries also expire after
+ * {@code app.cache.ttl}, like the second-level cache regions they are read from.
+ */
+@Component
+public class SupportEngineerCapabilityIndex {
+
+    public record Capability(String name, Set<IncidentCategory> categories) {
+
+        public boolean canHandle(IncidentCategory category) {
+            return categories.contains(category);
+        }
+    }
+
+    private final Cache<UUID, Capability> capabilities;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SupportEngineerCapabilityIndex(@Value("${app.cache.max-entries:10000}") long maxEntries,
+            @Value("${app.cache.ttl:1h}") Duration ttl, MeterRegistry registry) {
+        this.capabilities = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, capabilities, "support-engineer-capabilities");
+    }
+
+    public Optional<Capability> find(UUID supportEngineerId) {
+        return Optional.ofNullable(capabilities.getIfPresent(supportEngineerId));
+    }
+
+    /**
+     * Taken before loading engineers for {@link #register}: an eviction after it may mean the
+     * engineers were read before a change committed.
+     */
+    public long stamp() {
+        return evictions.get();
+    }
+
+    /**
+     * Returns the engineer's capability, which the entity must have its categories initialized for,
+     * and caches it unless an engineer change committed since {@code stamp}.
+     */
+    public Capability register(SupportEngineer se, long stamp) {
+        Set<IncidentCategory> categories = se.getCategories().isEmpty()
+                ? EnumSet.noneOf(IncidentCategory.class)
+                : EnumSet.copyOf(se.getCategories());
+        Capability capability = new Capability(se.getName(), Collections.unmodifiableSet(categories));
+        if (evictions.get() == stamp) {
+            capabilities.put(se.getId(), capability);
+            // An eviction between the check and the put would not have seen this entry
+            if (evictions.get() != stamp) {
+                capabilities.invalidate(se.getId());
+            }
+        }
+        return capability;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSupportEngineerChanged(SupportEngineerChangedEvent event) {
+        evictions.incrementAndGet();
+        capabilities.invalidate(event.supportEngineerId());
+    }
+}
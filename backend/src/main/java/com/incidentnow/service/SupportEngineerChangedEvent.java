@@ -0,0 +1,9 @@
+package com.incidentnow.service;
+
+import java.util.UUID;
+
+/**
+ * Published by {@link SupportEngineerService} when an engineer's name or categories may have changed.
+ */
+public record SupportEngineerChangedEvent(UUID supportEngineerId) {
+}
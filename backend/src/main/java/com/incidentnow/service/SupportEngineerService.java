@@ -7,9 +7,11 @@ import com.incidentnow.exception.DuplicateResourceException;
 import com.incidentnow.exception.ResourceNotFoundException;
 import com.incidentnow.model.IncidentCategory;
 import com.incidentnow.repository.SupportEngineerRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +23,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Service
+@Timed("incidentnow.service")
 @RequiredArgsConstructor
 public class SupportEngineerService {
 
@@ -28,6 +31,7 @@ public class SupportEngineerService {
 
     private final SupportEngineerRepository supportEngineerRepository;
     private final DtoMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public PagedResponseDTO<SupportEngineerResponseDTO> listSupportEngineers(int page, int pageSize,
@@ -109,6 +113,7 @@ public class SupportEngineerService {
             se.setCategories(new ArrayList<>(dto.categories()));
 
         se = supportEngineerRepository.save(se);
+        eventPublisher.publishEvent(new SupportEngineerChangedEvent(id));
         log.info("Support engineer updated: {}", id);
         return mapper.toSupportEngineerResponse(se);
     }
@@ -148,6 +153,7 @@ public class SupportEngineerService {
             se.setCategories(new ArrayList<>(dto.categories()));
 
         se = supportEngineerRepository.save(se);
+        eventPublisher.publishEvent(new SupportEngineerChangedEvent(id));
         log.info("Support engineer patched: {}", id);
         return mapper.toSupportEngineerResponse(se);
     }
@@ -0,0 +1,154 @@
+package com.incidentnow.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incidentnow.config.DtoMapper;
+import com.incidentnow.dto.TimelineArchiveResultDTO;
+import com.incidentnow.dto.TimelineEventDTO;
+import com.incidentnow.entity.TimelineArchive;
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.repository.TimelineArchiveRepository;
+import com.incidentnow.repository.TimelineEventRepository;
+import com.incidentnow.repository.TimelineEventRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Timeline retention: events older than {@code app.timeline.retention} are rolled, per incident and
+ * calendar month, into compressed {@link TimelineArchive} rows and removed from {@code timeline_events}.
+ * <p>
+ * The hot table then only holds recent events, and every archived event of an incident is older than
+ * all of its remaining hot events, so a timeline is read as its archives followed by its hot rows.
+ */
+@Service
+public class TimelineArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineArchiveService.class);
+
+    private static final int INCIDENT_CHUNK_SIZE = 100;
+    private static final TypeReference<List<TimelineEventDTO>> EVENT_LIST = new TypeReference<>() {
+    };
+
+    private record ArchiveKey(UUID incidentId, YearMonth month) {
+    }
+
+    private final TimelineEventRepository timelineEventRepository;
+    private final TimelineArchiveRepository timelineArchiveRepository;
+    private final IncidentRepository incidentRepository;
+    private final DtoMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public TimelineArchiveService(TimelineEventRepository timelineEventRepository,
+            TimelineArchiveRepository timelineArchiveRepository, IncidentRepository incidentRepository,
+            DtoMapper mapper, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+            @Value("${app.timeline.retention:365d}") Duration retention) {
+        this.timelineEventRepository = timelineEventRepository;
+        this.timelineArchiveRepository = timelineArchiveRepository;
+        this.incidentRepository = incidentRepository;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${app.timeline.archive-cron:-}")
+    public void scheduledArchive() {
+        archive();
+    }
+
+    /**
+     * Archives every whole month that lies entirely before now minus the retention period.
+     * Each chunk of incidents is archived in its own transaction.
+     */
+    public TimelineArchiveResultDTO archive() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention)
+                .with(TemporalAdjusters.firstDayOfMonth())
+                .truncatedTo(ChronoUnit.DAYS);
+
+        List<UUID> incidentIds = timelineEventRepository.findIncidentIdsWithEventsBefore(cutoff);
+        long archives = 0;
+        long events = 0;
+        for (int from = 0; from < incidentIds.size(); from += INCIDENT_CHUNK_SIZE) {
+            List<UUID> chunk = incidentIds.subList(from, Math.min(from + INCIDENT_CHUNK_SIZE, incidentIds.size()));
+            long[] counts = transactionTemplate.execute(status -> archiveChunk(chunk, cutoff));
+            archives += counts[0];
+            events += counts[1];
+        }
+
+        long duration = System.currentTimeMillis() - start;
+        log.info("Archived {} timeline events of {} incidents into {} archives (cutoff {}) in {} ms",
+                events, incidentIds.size(), archives, cutoff, duration);
+        return new TimelineArchiveResultDTO(cutoff, incidentIds.size(), archives, events, duration);
+    }
+
+    private long[] archiveChunk(List<UUID> incidentIds, LocalDateTime cutoff) {
+        Map<ArchiveKey, List<TimelineEventDTO>> months = new LinkedHashMap<>();
+        for (TimelineEventRow row : timelineEventRepository.findRowsByIncidentIdInBefore(incidentIds, cutoff)) {
+            months.computeIfAbsent(new ArchiveKey(row.incidentId(), YearMonth.from(row.timestamp())),
+                    key -> new ArrayList<>()).add(mapper.toTimelineEventDTO(row));
+        }
+
+        List<TimelineArchive> archives = new ArrayList<>(months.size());
+        long events = 0;
+        for (Map.Entry<ArchiveKey, List<TimelineEventDTO>> month : months.entrySet()) {
+            List<TimelineEventDTO> monthEvents = month.getValue();
+            archives.add(TimelineArchive.builder()
+                    .incident(incidentRepository.getReferenceById(month.getKey().incidentId()))
+                    .periodStart(month.getKey().month().atDay(1).atStartOfDay())
+                    .eventCount(monthEvents.size())
+                    .firstTimestamp(monthEvents.get(0).timestamp())
+                    .lastTimestamp(monthEvents.get(monthEvents.size() - 1).timestamp())
+                    .payload(compress(monthEvents))
+                    .build());
+            events += monthEvents.size();
+        }
+        timelineArchiveRepository.saveAll(archives);
+        timelineEventRepository.deleteByIncidentIdInBefore(incidentIds, cutoff);
+        return new long[] { archives.size(), events };
+    }
+
+    public List<TimelineEventDTO> read(TimelineArchive archive) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(archive.getPayload()))) {
+            return objectMapper.readValue(in, EVENT_LIST);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable timeline archive " + archive.getId(), e);
+        }
+    }
+
+    private byte[] compress(List<TimelineEventDTO> events) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, events);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,34 @@
+package com.incidentnow.service;
+
+import com.incidentnow.dto.TimelineEventDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset pagination token for a timeline: timestamp and id of the last event of a page.
+ * Encoded as base64url of {@code timestamp|id}.
+ */
+public record TimelineCursor(LocalDateTime timestamp, UUID id) {
+
+    public static TimelineCursor of(TimelineEventDTO event) {
+        return new TimelineCursor(event.timestamp(), event.id());
+    }
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimelineCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new TimelineCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.incidentnow.service;
+
+import com.incidentnow.model.TimelineEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only writer for {@code timeline_events}.
+ * <p>
+ * In {@code sync} mode (the default) the events appended during a transaction are buffered and
+ * inserted as one JDBC batch right before it commits, on the same connection, so they commit or
+ * roll back together with the change that produced them. In {@code async} mode the buffer is
+ * handed to a background writer once the transaction has committed; the queue is bounded and a
+ * committing thread that finds it full writes its events itself. Events the background writer cannot
+ * insert are dropped and counted as {@code incidentnow.timeline.events.dropped}, as are those still
+ * queued 10 seconds into shutdown; queued events are lost outright if the process dies, so async
+ * mode does not guarantee that a committed change has its events.
+ * <p>
+ * Either way a {@link TimelineEventsCommittedEvent} is published once the events are in
+ * {@code timeline_events}: after the commit in sync mode, after the background insert in async mode.
+ */
+@Component
+public class TimelineEventWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineEventWriter.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO timeline_events
+                (id, incident_id, event_type, description, previous_value, new_value, actor_id, timestamp)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int MAX_DRAIN = 500;
+
+    /**
+     * {@code before} holds the incident's filterable fields before the change that appended the
+     * event, or null for a new incident or one the change left as it was; it is not stored.
+     */
+    public record Entry(
+            UUID id,
+            UUID incidentId,
+            TimelineEventType eventType,
+            String description,
+            String previousValue,
+            String newValue,
+            UUID actorId,
+            LocalDateTime timestamp,
+            IncidentFilterFields before) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean async;
+    private final Counter dropped;
+    private final BlockingQueue<Entry> queue;
+    private final ExecutorService worker;
+    private volatile boolean running = true;
+
+    public TimelineEventWriter(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher, MeterRegistry registry,
+            @Value("${app.timeline.writer:sync}") String mode,
+            @Value("${app.timeline.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.dropped = Counter.builder("incidentnow.timeline.events.dropped")
+                .description("Timeline events the async writer failed to insert")
+                .register(registry);
+        this.async = switch (mode) {
+            case "sync" -> false;
+            case "async" -> true;
+            default -> throw new IllegalArgumentException("Unknown app.timeline.writer: " + mode);
+        };
+        if (async) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.worker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "timeline-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            worker.execute(this::drainLoop);
+        } else {
+            this.queue = null;
+            this.worker = null;
+        }
+        log.info("Timeline event writer mode: {}", mode);
+    }
+
+    public void append(Entry entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(entry));
+            eventPublisher.publishEvent(new TimelineEventsCommittedEvent(List.of(entry)));
+            return;
+        }
+        pendingEntries().add(entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Entry> pendingEntries() {
+        List<Entry> pending = (List<Entry>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<Entry> buffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, buffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!async) {
+                    // The incidents the events point to may still be waiting in the persistence context
+                    entityManager.flush();
+                    write(buffer);
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                if (async) {
+                    enqueue(buffer);
+                } else {
+                    publish(buffer);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TimelineEventWriter.this);
+            }
+        });
+        return buffer;
+    }
+
+    private void enqueue(List<Entry> entries) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (!running || !queue.offer(entries.get(i))) {
+                log.debug("Timeline queue full, writing {} events on the caller thread", entries.size() - i);
+                List<Entry> rest = entries.subList(i, entries.size());
+                write(rest);
+                publish(rest);
+                return;
+            }
+        }
+    }
+
+    private void publish(List<Entry> entries) {
+        if (!entries.isEmpty()) {
+            eventPublisher.publishEvent(new TimelineEventsCommittedEvent(List.copyOf(entries)));
+        }
+    }
+
+    private void write(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setObject(1, entry.id());
+            ps.setObject(2, entry.incidentId());
+            ps.setString(3, entry.eventType().name());
+            ps.setString(4, entry.description());
+            ps.setString(5, entry.previousValue());
+            ps.setString(6, entry.newValue());
+            ps.setObject(7, entry.actorId());
+            ps.setTimestamp(8, Timestamp.valueOf(entry.timestamp()));
+        });
+    }
+
+    // ===== Async mode =====
+
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(MAX_DRAIN);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_DRAIN - 1);
+                writeAsync(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * A failed batch is retried row by row so one bad row (e.g. a purged incident) drops only itself.
+     * Only the rows written are published.
+     */
+    private void writeAsync(List<Entry> batch) {
+        try {
+            write(batch);
+            publish(batch);
+        } catch (DataAccessException e) {
+            List<Entry> written = new ArrayList<>(batch.size());
+            for (Entry entry : batch) {
+                try {
+                    write(List.of(entry));
+                    written.add(entry);
+                } catch (DataAccessException rowFailure) {
+                    dropped.increment();
+                    log.warn("Dropping timeline event {} for incident {}: {}", entry.eventType(),
+                            entry.incidentId(), rowFailure.getMessage());
+                }
+            }
+            publish(written);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.shutdown();
+            if (!worker.awaitTermination(10, TimeUnit.SECONDS)) {
+                dropped.increment(queue.size());
+                log.warn("Timeline writer stopped with {} events still queued", queue.size());
+            }
+        }
+    }
+}
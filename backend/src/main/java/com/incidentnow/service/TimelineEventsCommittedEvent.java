@@ -0,0 +1,10 @@
+package com.incidentnow.service;
+
+import java.util.List;
+
+/**
+ * Published by {@link TimelineEventWriter} once {@code entries}, appended by a committed transaction,
+ * are in {@code timeline_events}.
+ */
+public record TimelineEventsCommittedEvent(List<TimelineEventWriter.Entry> entries) {
+}
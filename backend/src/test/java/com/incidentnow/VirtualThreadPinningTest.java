@@ -0,0 +1,164 @@
+package com.incidentnow;
+
+import com.incidentnow.dto.IncidentCreateDTO;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.Priority;
+import com.incidentnow.model.Severity;
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.repository.OwnerRepository;
+import com.incidentnow.service.BlockIncidentNumberAllocator;
+import com.incidentnow.service.InMemoryIncidentNumberAllocator;
+import com.incidentnow.service.IncidentNumberAllocator;
+import com.incidentnow.service.IncidentService;
+import jakarta.persistence.EntityManagerFactory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs concurrent incident creates on virtual threads, more of them than there are pooled
+ * connections so they really park, and fails if any virtual thread parked while pinned to its
+ * carrier ({@code jdk.VirtualThreadPinned}, recorded without threshold).
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadPinningTest {
+
+    private static final int THREADS = 64;
+    private static final int CREATES_PER_THREAD = 5;
+
+    @TempDir
+    Path recordings;
+
+    @Autowired
+    private IncidentService incidentService;
+    @Autowired
+    private OwnerRepository ownerRepository;
+    @Autowired
+    private IncidentRepository incidentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void concurrentCreatesDoNotPin() throws Exception {
+        UUID ownerId = ownerRepository.findAll().getFirst().getId();
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+
+        List<RecordedEvent> pinned = recordPinning(() -> runOnVirtualThreads(() -> {
+            for (int i = 0; i < CREATES_PER_THREAD; i++) {
+                numbers.add(incidentService.createIncident(newIncident(ownerId)).incidentNumber());
+            }
+        }));
+
+        assertThat(numbers).hasSize(THREADS * CREATES_PER_THREAD);
+        assertThat(pinned).as(describe(pinned)).isEmpty();
+    }
+
+    @Test
+    void allocatorsSeedAndRefillWithoutPinning() throws Exception {
+        // Fresh instances, so seeding (memory) and sequence creation and refills (block) run concurrently
+        IncidentNumberAllocator memory = new InMemoryIncidentNumberAllocator(incidentRepository);
+        IncidentNumberAllocator block = new BlockIncidentNumberAllocator(incidentRepository, jdbcTemplate,
+                transactionManager, entityManagerFactory, 5);
+        Set<String> memoryNumbers = ConcurrentHashMap.newKeySet();
+        Set<String> blockNumbers = ConcurrentHashMap.newKeySet();
+
+        List<RecordedEvent> pinned = recordPinning(() -> runOnVirtualThreads(() -> {
+            for (int i = 0; i < CREATES_PER_THREAD; i++) {
+                memoryNumbers.add(memory.allocate());
+                blockNumbers.add(block.allocate());
+            }
+        }));
+
+        assertThat(memoryNumbers).hasSize(THREADS * CREATES_PER_THREAD);
+        assertThat(blockNumbers).hasSize(THREADS * CREATES_PER_THREAD);
+        assertThat(pinned).as(describe(pinned)).isEmpty();
+    }
+
+    @Test
+    void recordingDetectsPinning() throws Exception {
+        Object monitor = new Object();
+        List<RecordedEvent> pinned = recordPinning(() -> {
+            Thread thread = Thread.ofVirtual().start(() -> {
+                synchronized (monitor) {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            thread.join();
+        });
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+    private List<RecordedEvent> recordPinning(Workload workload) throws Exception {
+        Path file = recordings.resolve("pinning-" + System.nanoTime() + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            workload.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static void runOnVirtualThreads(Runnable task) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static IncidentCreateDTO newIncident(UUID ownerId) {
+        return new IncidentCreateDTO("Pinning check", "Created concurrently on a virtual thread", Priority.LOW,
+                Severity.LOW, IncidentCategory.NETWORK, List.of("test"), List.of(), null, ownerId, null, null, null,
+                null);
+    }
+
+    private static String describe(List<RecordedEvent> pinned) {
+        return pinned.stream()
+                .map(event -> event.getStackTrace() == null ? "(no stack trace)"
+                        : event.getStackTrace().getFrames().stream().limit(12)
+                                .map(RecordedFrame::getMethod)
+                                .map(method -> method.getType().getName() + "." + method.getName())
+                                .collect(Collectors.joining("\n    at ")))
+                .collect(Collectors.joining("\n\n", "virtual threads pinned while parking:\n", ""));
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,110 @@
+package com.incidentnow.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.incidentnow.dto.GitHubRepoDTO;
+import com.incidentnow.dto.IncidentResponseDTO;
+import com.incidentnow.dto.OwnerSummaryDTO;
+import com.incidentnow.dto.SupportEngineerSummaryDTO;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.IncidentStatus;
+import com.incidentnow.model.OwnerRole;
+import com.incidentnow.model.Priority;
+import com.incidentnow.model.Severity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jackson.JsonComponentModule;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link IncidentResponseSerializer} must write exactly the bytes Jackson's bean serializer writes
+ * with the application's {@code spring.jackson} settings.
+ */
+@JsonTest
+class IncidentResponseSerializerTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Jackson2ObjectMapperBuilder builder;
+    @Autowired
+    private List<Module> modules;
+
+    private ObjectMapper beanMapper;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // The same settings and modules, without the @JsonComponent serializers
+        beanMapper = builder
+                .modulesToInstall(modules.stream().filter(module -> !(module instanceof JsonComponentModule))
+                        .toArray(Module[]::new))
+                .build();
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(IncidentResponseDTO.class))
+                .isInstanceOf(IncidentResponseSerializer.class);
+        assertThat(beanMapper.getSerializerProviderInstance().findValueSerializer(IncidentResponseDTO.class))
+                .isNotInstanceOf(IncidentResponseSerializer.class);
+    }
+
+    @Test
+    void fullyPopulatedMatchesBeanSerializer() throws Exception {
+        assertSameBytes(objectMapper, beanMapper, fullyPopulated());
+    }
+
+    @Test
+    void nullsAndEmptyListsMatchBeanSerializer() throws Exception {
+        assertSameBytes(objectMapper, beanMapper, sparse());
+    }
+
+    @Test
+    void datesAsTimestampsMatchBeanSerializer() throws Exception {
+        assertSameBytes(objectMapper.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS),
+                beanMapper.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS), fullyPopulated());
+    }
+
+    private static void assertSameBytes(ObjectMapper custom, ObjectMapper bean, IncidentResponseDTO incident)
+            throws Exception {
+        byte[] expected = bean.writeValueAsBytes(incident);
+        assertThat(new String(custom.writeValueAsBytes(incident))).isEqualTo(new String(expected));
+        assertThat(custom.writeValueAsBytes(incident)).isEqualTo(expected);
+    }
+
+    private static IncidentResponseDTO fullyPopulated() {
+        LocalDateTime created = LocalDateTime.of(2026, 10, 18, 8, 15);
+        return new IncidentResponseDTO(UUID.randomUUID(), "INC-2026-000042", "Checkout \"latency\" spike",
+                "p99 over 2s since 08:00\nafter the deploy – see \\runbook", IncidentStatus.IN_PROGRESS,
+                Priority.CRITICAL, Severity.HIGH, IncidentCategory.CLOUD_INFRASTRUCTURE, List.of("checkout", "latency"),
+                List.of("payments-api"), 1200,
+                new OwnerSummaryDTO(UUID.randomUUID(), "Sam Rivera", "sam@example.com",
+                        "https://example.com/a.png", "Payments", OwnerRole.TEAM_LEAD),
+                List.of(new SupportEngineerSummaryDTO(UUID.randomUUID(), "Ana Ito", "ana@example.com",
+                                "https://example.com/b.png", true,
+                                List.of(IncidentCategory.NETWORK, IncidentCategory.ACCESS_PERMISSIONS)),
+                        new SupportEngineerSummaryDTO(UUID.randomUUID(), "Li Wei", "li@example.com", null, false,
+                                List.of())),
+                "Connection pool exhausted", "Raised the pool size", "Route traffic to the other region",
+                new GitHubRepoDTO("incident-now", "checkout", "https://github.com/incident-now/checkout", "main", 17,
+                        "https://github.com/incident-now/checkout/issues/17", 18,
+                        "https://github.com/incident-now/checkout/pull/18", "0123abcd"),
+                created.plusDays(1), created, created.plusMinutes(90).plusSeconds(30).plusNanos(123_456_789),
+                created.plusMinutes(5), created.plusMinutes(80).plusNanos(1_000_000), created.plusHours(2), true, 5,
+                80);
+    }
+
+    private static IncidentResponseDTO sparse() {
+        return new IncidentResponseDTO(UUID.randomUUID(), "INC-2026-000043", "Printer offline", "Third floor",
+                IncidentStatus.OPEN, Priority.LOW, Severity.LOW, IncidentCategory.HARDWARE, List.of(), null, null,
+                new OwnerSummaryDTO(UUID.randomUUID(), "Sam Rivera", null, null, null, null), List.of(), null, null,
+                null, new GitHubRepoDTO(null, null, null, null, null, null, null, null, null), null,
+                LocalDateTime.of(2026, 10, 18, 9, 0), LocalDateTime.of(2026, 10, 18, 9, 0), null, null, null, false,
+                null, null);
+    }
+}
@@ -0,0 +1,175 @@
+package com.incidentnow.config;
+
+import com.incidentnow.entity.Incident;
+import com.incidentnow.entity.SupportEngineer;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.repository.IncidentRepository;
+import com.incidentnow.repository.OwnerRepository;
+import com.incidentnow.repository.SupportEngineerRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the hot read endpoints, and the incident write endpoints, against the sample data with {@code app.sql-budget.fail-on-exceed},
+ * so a request over its statement budget comes back as a 500 and fails here.
+ */
+@SpringBootTest(properties = "app.sql-budget.fail-on-exceed=true")
+@AutoConfigureMockMvc
+class SqlStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private IncidentRepository incidentRepository;
+    @Autowired
+    private OwnerRepository ownerRepository;
+    @Autowired
+    private SupportEngineerRepository supportEngineerRepository;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/incidents",
+            "/incidents?pageSize=100",
+            "/incidents?status=open&sortBy=priority",
+            "/incidents?view=compact&pageSize=100",
+            "/incidents?pagination=cursor&pageSize=100",
+            "/incidents?view=compact&pagination=cursor&pageSize=100",
+            "/incidents/search?q=database",
+            "/statistics/summary",
+            "/statistics/by-owner",
+            "/statistics/trends",
+            "/owners",
+            "/support-engineers"
+    })
+    void listEndpointsStayWithinBudget(String uri) throws Exception {
+        mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatementBudgetAdvice.HEADER));
+    }
+
+    @Test
+    void incidentEndpointsStayWithinBudget() throws Exception {
+        UUID incidentId = firstIncident().getId();
+        for (String uri : new String[] { "/incidents/" + incidentId, "/incidents/" + incidentId + "/comments",
+                "/incidents/" + incidentId + "/timeline" }) {
+            mockMvc.perform(get(uri))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(SqlStatementBudgetAdvice.HEADER));
+        }
+    }
+
+    @Test
+    void ownerAndEngineerIncidentsStayWithinBudget() throws Exception {
+        UUID ownerId = ownerRepository.findAll().getFirst().getId();
+        UUID engineerId = supportEngineerRepository.findAll().getFirst().getId();
+        for (String uri : new String[] { "/owners/" + ownerId + "/incidents?pageSize=100",
+                "/owners/" + ownerId + "/incidents?view=compact&pageSize=100",
+                "/support-engineers/" + engineerId + "/assigned-incidents?pageSize=100",
+                "/support-engineers/" + engineerId + "/assigned-incidents?view=compact&pageSize=100" }) {
+            mockMvc.perform(get(uri))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(SqlStatementBudgetAdvice.HEADER));
+        }
+    }
+
+    @Test
+    void incidentWriteEndpointsStayWithinBudget() throws Exception {
+        String ownerId = ownerRepository.findAll().getFirst().getId().toString();
+        String assigneeIds = networkEngineers(3);
+
+        String incidentId = id(mockMvc.perform(post("/incidents")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(incidentJson(ownerId, assigneeIds)))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(SqlStatementBudgetAdvice.HEADER))
+                .andReturn());
+
+        mockMvc.perform(post("/incidents/" + incidentId + "/assign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"assigneeIds\":[" + networkEngineers(2) + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatementBudgetAdvice.HEADER));
+
+        mockMvc.perform(patch("/incidents/" + incidentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"priority\":\"critical\",\"assigneeIds\":[" + assigneeIds + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatementBudgetAdvice.HEADER));
+
+        // No body, so the budget is checked by the filter and a failure is thrown out of perform
+        mockMvc.perform(delete("/incidents/" + incidentId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/incidents:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"incidents\":[" + String.join(",", incidentJson(ownerId, assigneeIds),
+                                incidentJson(ownerId, assigneeIds), incidentJson(ownerId, "")) + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatementBudgetAdvice.HEADER));
+    }
+
+    /** Quoted ids of {@code count} active engineers who may be assigned network incidents. */
+    private String networkEngineers(int count) {
+        return supportEngineerRepository.findByCategoryAndActive(IncidentCategory.NETWORK).stream()
+                .limit(count)
+                .map(SupportEngineer::getId)
+                .map(id -> "\"" + id + "\"")
+                .collect(Collectors.joining(","));
+    }
+
+    private static String incidentJson(String ownerId, String assigneeIds) {
+        return """
+                {"title":"Budget check","description":"Written by the SQL budget test","priority":"high",
+                 "severity":"high","category":"network","tags":["test"],"ownerId":"%s","assigneeIds":[%s]}
+                """.formatted(ownerId, assigneeIds);
+    }
+
+    private static String id(MvcResult result) throws Exception {
+        String body = result.getResponse().getContentAsString();
+        int start = body.indexOf("\"id\":\"") + 6;
+        return body.substring(start, body.indexOf('"', start));
+    }
+
+    private Incident firstIncident() {
+        return incidentRepository.findAll(PageRequest.of(0, 1)).getContent().getFirst();
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.sql-budget.endpoints=GET /incidents/{incidentId}=1")
+    class OverBudget {
+
+        // This context's beans; the enclosing instance's fields belong to the outer context
+        @Autowired
+        private MockMvc overBudgetMockMvc;
+        @Autowired
+        private IncidentRepository overBudgetIncidentRepository;
+
+        @Test
+        void failsBeforeTheResponseIsWritten() throws Exception {
+            UUID incidentId = overBudgetIncidentRepository.findAll(PageRequest.of(0, 1)).getContent().getFirst().getId();
+            overBudgetMockMvc.perform(get("/incidents/" + incidentId))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(header().doesNotExist(SqlStatementBudgetAdvice.HEADER));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.incidentnow.service;
+
+import com.incidentnow.dto.IncidentCreateDTO;
+import com.incidentnow.dto.IncidentPurgeDTO;
+import com.incidentnow.dto.IncidentResolutionDTO;
+import com.incidentnow.dto.StatusCountDTO;
+import com.incidentnow.exception.ConflictException;
+import com.incidentnow.exception.ResourceNotFoundException;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.Priority;
+import com.incidentnow.model.Severity;
+import com.incidentnow.repository.OwnerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races writes to the same incidents and checks that the statistics rollups still agree with the
+ * incidents table: each write must apply its rollup delta to the state it actually replaced.
+ */
+@SpringBootTest(properties = "app.statistics.cache-ttl=0")
+class IncidentRollupConcurrencyTest {
+
+    private static final int INCIDENTS = 15;
+    private static final int WRITERS_PER_INCIDENT = 16;
+
+    @Autowired
+    private IncidentService incidentService;
+    @Autowired
+    private StatisticsService statisticsService;
+    @Autowired
+    private OwnerRepository ownerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentWritesKeepRollupsInStepWithTheTable() throws Exception {
+        UUID ownerId = ownerRepository.findAll().getFirst().getId();
+        List<UUID> incidents = new ArrayList<>();
+        for (int i = 0; i < INCIDENTS; i++) {
+            incidents.add(incidentService.createIncident(newIncident(ownerId)).id());
+        }
+        assertRollupsMatchTable();
+
+        // Only one resolve per incident can win, the rest see it resolved
+        AtomicInteger resolved = new AtomicInteger();
+        race(incidents, (incidentId, writer) -> () -> {
+            incidentService.resolveIncident(incidentId, new IncidentResolutionDTO("Race", "Resolved concurrently"));
+            return resolved.incrementAndGet();
+        });
+        assertThat(resolved).hasValue(INCIDENTS);
+        assertRollupsMatchTable();
+
+        race(incidents, (incidentId, writer) -> writer % 2 == 0
+                ? () -> incidentService.closeIncident(incidentId, "Closed concurrently")
+                : () -> incidentService.reopenIncident(incidentId, "Reopened concurrently"));
+        assertRollupsMatchTable();
+
+        race(incidents, (incidentId, writer) -> writer % 4 == 0
+                ? () -> incidentService.purgeIncidents(new IncidentPurgeDTO(List.of(incidentId), null))
+                : () -> {
+                    incidentService.deleteIncident(incidentId);
+                    return null;
+                });
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM incidents WHERE id IN (?, ?, ?)", Long.class,
+                incidents.get(0), incidents.get(1), incidents.get(2))).isZero();
+        assertRollupsMatchTable();
+    }
+
+    /**
+     * Runs {@value #WRITERS_PER_INCIDENT} writers on every incident at once. Writers that lose the
+     * race fail with a conflict, or not found once the incident is deleted.
+     */
+    private static void race(List<UUID> incidents, Writer writer) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS_PER_INCIDENT)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < WRITERS_PER_INCIDENT; w++) {
+                for (UUID incidentId : incidents) {
+                    futures.add(executor.submit(writer.task(incidentId, w)));
+                }
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (java.util.concurrent.ExecutionException e) {
+                    if (!(e.getCause() instanceof ConflictException)
+                            && !(e.getCause() instanceof ResourceNotFoundException)) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    private void assertRollupsMatchTable() {
+        Map<String, Long> table = jdbcTemplate.queryForList("SELECT status, COUNT(*) AS n FROM incidents GROUP BY status")
+                .stream()
+                .collect(Collectors.toMap(row -> (String) row.get("STATUS"), row -> ((Number) row.get("N")).longValue()));
+        Map<String, Long> rollups = statisticsService.getIncidentsByStatus().stream()
+                .filter(count -> count.count() != 0)
+                .collect(Collectors.toMap(count -> count.status().name(), StatusCountDTO::count));
+
+        assertThat(rollups).isEqualTo(table);
+        assertThat(statisticsService.getIncidentSummary(null, null).totalIncidents())
+                .isEqualTo(table.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private static IncidentCreateDTO newIncident(UUID ownerId) {
+        return new IncidentCreateDTO("Rollup race", "Written to concurrently", Priority.HIGH, Severity.HIGH,
+                IncidentCategory.NETWORK, List.of("test"), List.of(), null, ownerId, null, null, null, null);
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        Callable<?> task(UUID incidentId, int writer);
+    }
+}
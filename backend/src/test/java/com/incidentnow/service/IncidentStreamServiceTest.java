@@ -0,0 +1,120 @@
+package com.incidentnow.service;
+
+import com.incidentnow.dto.IncidentCreateDTO;
+import com.incidentnow.dto.IncidentResolutionDTO;
+import com.incidentnow.entity.Owner;
+import com.incidentnow.model.IncidentCategory;
+import com.incidentnow.model.Priority;
+import com.incidentnow.model.Severity;
+import com.incidentnow.repository.OwnerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Filtered {@code /incidents/stream} subscribers get the events that take an incident out of their
+ * filter, live and when resuming, and nothing about the incident after that.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IncidentStreamServiceTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private IncidentService incidentService;
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Test
+    void statusFilterGetsTheEventThatLeavesIt() throws Exception {
+        MockHttpServletResponse stream = subscribe("/incidents/stream?status=open", null);
+        UUID incidentId = createIncident(owners().get(0).getId());
+
+        incidentService.resolveIncident(incidentId, new IncidentResolutionDTO("Cause", "Fixed"));
+        incidentService.closeIncident(incidentId, "Done");
+
+        awaitEvent(stream, "resolved", incidentId);
+        UUID marker = createIncident(owners().get(0).getId());
+        awaitEvent(stream, "created", marker);
+        assertThat(stream.getContentAsString()).doesNotContain("event:closed");
+    }
+
+    @Test
+    void ownerFilterGetsTheEventThatLeavesIt() throws Exception {
+        List<Owner> owners = owners();
+        UUID ownerId = owners.get(0).getId();
+        MockHttpServletResponse stream = subscribe("/incidents/stream?ownerId=" + ownerId, null);
+        UUID incidentId = createIncident(ownerId);
+
+        mockMvc.perform(patch("/incidents/" + incidentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ownerId\":\"" + owners.get(1).getId() + "\"}"))
+                .andExpect(status().isOk());
+
+        awaitEvent(stream, "owner_changed", incidentId);
+    }
+
+    @Test
+    void resumedStatusFilterReplaysTheEventThatLeavesIt() throws Exception {
+        MockHttpServletResponse first = subscribe("/incidents/stream?status=open", null);
+        UUID incidentId = createIncident(owners().get(0).getId());
+        String createdId = awaitEvent(first, "created", incidentId);
+
+        incidentService.resolveIncident(incidentId, new IncidentResolutionDTO("Cause", "Fixed"));
+
+        MockHttpServletResponse resumed = subscribe("/incidents/stream?status=open", createdId);
+        awaitEvent(resumed, "resolved", incidentId);
+    }
+
+    private MockHttpServletResponse subscribe(String uri, String lastEventId) throws Exception {
+        var request = get(uri).accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn().getResponse();
+    }
+
+    /** Waits for an event of {@code type} about the incident and returns its SSE id. */
+    private static String awaitEvent(MockHttpServletResponse stream, String type, UUID incidentId)
+            throws Exception {
+        Pattern event = Pattern.compile("id:(\\S+)\nevent:" + type + "\ndata:[^\n]*\"id\":\"" + incidentId + "\"");
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            Matcher matcher = event.matcher(stream.getContentAsString());
+            if (matcher.find()) {
+                return matcher.group(1);
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("No " + type + " event for incident " + incidentId + " in:\n"
+                + stream.getContentAsString());
+    }
+
+    private List<Owner> owners() {
+        return ownerRepository.findAll();
+    }
+
+    private UUID createIncident(UUID ownerId) {
+        return incidentService.createIncident(new IncidentCreateDTO("Stream filter", "Watched by a filtered stream",
+                Priority.MEDIUM, Severity.MEDIUM, IncidentCategory.NETWORK, List.of("test"), List.of(), null, ownerId,
+                null, null, null, null)).id();
+    }
+}